@@ -0,0 +1,6 @@
+\set start random(0, 39000)
+SELECT id, email, first_name, last_name, birth_date, address, phone_number
+FROM users
+WHERE birth_date BETWEEN DATE '1900-01-01' + :start AND DATE '1900-01-01' + :start + 365
+ORDER BY birth_date, id
+LIMIT 101;
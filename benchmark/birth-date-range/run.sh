@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+#
+# Seeds the users table and measures the birth-date range page query with and
+# without idx_users_birth_date_id. Requires psql and pgbench on the PATH and a
+# migrated database, e.g. the one from docker-compose.yml:
+#
+#   docker compose up -d && ./mvnw flyway:migrate
+#   ./benchmark/birth-date-range/run.sh 1000000
+#   ./benchmark/birth-date-range/run.sh 10000000
+#
+set -euo pipefail
+
+ROWS="${1:-1000000}"
+DURATION="${DURATION:-60}"
+CLIENTS="${CLIENTS:-8}"
+export PGHOST="${PGHOST:-localhost}" PGPORT="${PGPORT:-5432}" PGUSER="${PGUSER:-postgres}"
+export PGPASSWORD="${PGPASSWORD:-root}" PGDATABASE="${PGDATABASE:-users_database}"
+
+DIR="$(cd "$(dirname "$0")" && pwd)"
+LOG_DIR="$(mktemp -d)"
+
+percentiles() {
+    cat "$1"/pgbench_log.* | awk '{ print $3 }' | sort -n | awk '
+        { latency[NR] = $1 }
+        END {
+            printf "  samples=%d p50=%.2fms p99=%.2fms\n",
+                NR, latency[int(NR * 0.50)] / 1000, latency[int(NR * 0.99)] / 1000
+        }'
+}
+
+measure() {
+    local label="$1"
+    mkdir -p "$LOG_DIR/$label"
+    (cd "$LOG_DIR/$label" && pgbench -n -f "$DIR/range-query.sql" -c "$CLIENTS" -j "$CLIENTS" -T "$DURATION" -l >/dev/null)
+    echo "$label:"
+    percentiles "$LOG_DIR/$label"
+}
+
+echo "Seeding $ROWS users..."
+psql -q -v ON_ERROR_STOP=1 -v rows="$ROWS" -f "$DIR/seed.sql"
+
+psql -q -c "DROP INDEX IF EXISTS idx_users_birth_date_id"
+measure "without-index"
+
+psql -q -c "CREATE INDEX idx_users_birth_date_id ON users (birth_date, id)" -c "ANALYZE users"
+measure "with-index"
+
+rm -rf "$LOG_DIR"
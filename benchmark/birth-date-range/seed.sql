@@ -0,0 +1,13 @@
+TRUNCATE users;
+
+INSERT INTO users (id, email, first_name, last_name, birth_date, address, phone_number)
+SELECT gen_random_uuid(),
+       'user' || g || '@example.com',
+       'First' || g,
+       'Last' || g,
+       DATE '1900-01-01' + (random() * 40000)::int,
+       'Street ' || g,
+       '+380' || lpad(g::text, 9, '0')
+FROM generate_series(1, :rows) AS g;
+
+ANALYZE users;
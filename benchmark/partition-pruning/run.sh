@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+#
+# Seeds the partitioned users table and measures findByBirthDateBetween over a
+# one-month and a thirty-year range. Statements are prepared, like the ones the
+# application sends, so pruning happens at execution time once Postgres switches
+# to a generic plan. Requires psql and pgbench on the PATH and a database
+# migrated to V7, e.g. the one from docker-compose.yml:
+#
+#   docker compose up -d && ./mvnw flyway:migrate
+#   ./benchmark/partition-pruning/run.sh 1000000
+#
+set -euo pipefail
+
+ROWS="${1:-1000000}"
+DURATION="${DURATION:-60}"
+CLIENTS="${CLIENTS:-8}"
+export PGHOST="${PGHOST:-localhost}" PGPORT="${PGPORT:-5432}" PGUSER="${PGUSER:-postgres}"
+export PGPASSWORD="${PGPASSWORD:-root}" PGDATABASE="${PGDATABASE:-users_database}"
+
+DIR="$(cd "$(dirname "$0")" && pwd)"
+LOG_DIR="$(mktemp -d)"
+
+percentiles() {
+    cat "$1"/pgbench_log.* | awk '{ print $3 }' | sort -n | awk '
+        { latency[NR] = $1 }
+        END {
+            printf "  samples=%d p50=%.2fms p99=%.2fms\n",
+                NR, latency[int(NR * 0.50)] / 1000, latency[int(NR * 0.99)] / 1000
+        }'
+}
+
+scanned_partitions() {
+    psql -q -At -c "EXPLAIN (COSTS OFF) SELECT id FROM users WHERE birth_date BETWEEN DATE '$1' AND DATE '$2'" \
+        | grep -o 'on users_[a-z0-9]*' | sort -u | wc -l
+}
+
+measure() {
+    local label="$1"
+    mkdir -p "$LOG_DIR/$label"
+    (cd "$LOG_DIR/$label" && pgbench -n -M prepared -f "$DIR/$label.sql" -c "$CLIENTS" -j "$CLIENTS" -T "$DURATION" -l >/dev/null)
+    echo "$label:"
+    percentiles "$LOG_DIR/$label"
+}
+
+echo "Seeding $ROWS users..."
+psql -q -v ON_ERROR_STOP=1 -v rows="$ROWS" -f "$DIR/../birth-date-range/seed.sql"
+
+echo "narrow-range scans $(scanned_partitions 1985-03-01 1985-03-31) partition(s)"
+measure "narrow-range"
+
+echo "wide-range scans $(scanned_partitions 1950-01-01 1979-12-31) partition(s)"
+measure "wide-range"
+
+rm -rf "$LOG_DIR"
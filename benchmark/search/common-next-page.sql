@@ -0,0 +1,6 @@
+SELECT id, email, first_name, last_name, birth_date, address, phone_number, version
+FROM users
+WHERE (lower(first_name) LIKE '%example%' OR lower(last_name) LIKE '%example%' OR lower(email) LIKE '%example%')
+  AND id > '80000000-0000-0000-0000-000000000000'
+ORDER BY id
+LIMIT 101;
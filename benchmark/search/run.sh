@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+#
+# Seeds the users table and measures the keyset search page query for a
+# fragment every user matches (the example.com email domain), on the first page
+# and deep into the id range, and for a selective five-digit fragment. Prints
+# the plan of each query before measuring it. Requires psql and pgbench on the
+# PATH and a migrated database, e.g. the one from docker-compose.yml:
+#
+#   docker compose up -d && ./mvnw flyway:migrate
+#   ./benchmark/search/run.sh 10000000
+#
+set -euo pipefail
+
+ROWS="${1:-1000000}"
+DURATION="${DURATION:-60}"
+CLIENTS="${CLIENTS:-8}"
+export PGHOST="${PGHOST:-localhost}" PGPORT="${PGPORT:-5432}" PGUSER="${PGUSER:-postgres}"
+export PGPASSWORD="${PGPASSWORD:-root}" PGDATABASE="${PGDATABASE:-users_database}"
+
+DIR="$(cd "$(dirname "$0")" && pwd)"
+LOG_DIR="$(mktemp -d)"
+
+percentiles() {
+    cat "$1"/pgbench_log.* | awk '{ print $3 }' | sort -n | awk '
+        { latency[NR] = $1 }
+        END {
+            printf "  samples=%d p50=%.2fms p99=%.2fms\n",
+                NR, latency[int(NR * 0.50)] / 1000, latency[int(NR * 0.99)] / 1000
+        }'
+}
+
+explain() {
+    sed -e '/^\\set/d' -e 's/:n/4242/g' "$DIR/$1.sql" \
+        | sed '1s/^/EXPLAIN (ANALYZE, BUFFERS, COSTS OFF) /' \
+        | psql -q
+}
+
+measure() {
+    local label="$1"
+    echo "$label:"
+    explain "$label"
+    mkdir -p "$LOG_DIR/$label"
+    (cd "$LOG_DIR/$label" && pgbench -n -f "$DIR/$label.sql" -c "$CLIENTS" -j "$CLIENTS" -T "$DURATION" -l >/dev/null)
+    percentiles "$LOG_DIR/$label"
+}
+
+echo "Seeding $ROWS users..."
+psql -q -v ON_ERROR_STOP=1 -v rows="$ROWS" -f "$DIR/../birth-date-range/seed.sql"
+
+measure "common-first-page"
+measure "common-next-page"
+measure "selective-first-page"
+
+rm -rf "$LOG_DIR"
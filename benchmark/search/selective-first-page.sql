@@ -0,0 +1,7 @@
+\set n random(1000, 9999)
+SELECT id, email, first_name, last_name, birth_date, address, phone_number, version
+FROM users
+WHERE lower(first_name) LIKE '%' || :n || '1%' OR lower(last_name) LIKE '%' || :n || '1%'
+   OR lower(email) LIKE '%' || :n || '1%'
+ORDER BY id
+LIMIT 101;
@@ -0,0 +1,8 @@
+-- Requests a random one-year birth-date range page per call.
+math.randomseed(os.time())
+
+request = function()
+    local year = math.random(1900, 2005)
+    local path = string.format("/api/v1/users?from=%d-01-01&to=%d-12-31", year, year)
+    return wrk.format("GET", path)
+end
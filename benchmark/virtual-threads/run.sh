@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+#
+# Compares throughput and latency of the platform-thread and virtual-thread
+# request execution modes. Requires wrk on the PATH and a seeded database, e.g.
+# the docker-compose Postgres filled by benchmark/birth-date-range/run.sh:
+#
+#   ./mvnw -DskipTests package
+#   ./benchmark/virtual-threads/run.sh
+#
+set -euo pipefail
+
+DURATION="${DURATION:-60s}"
+CONNECTIONS="${CONNECTIONS:-400}"
+THREADS="${THREADS:-8}"
+PORT="${PORT:-8080}"
+
+DIR="$(cd "$(dirname "$0")" && pwd)"
+JAR="$(ls "$DIR"/../../target/users-*.jar | head -n 1)"
+
+run_mode() {
+    local virtual="$1"
+    VIRTUAL_THREADS_ENABLED="$virtual" java -jar "$JAR" --server.port="$PORT" >/dev/null 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null' RETURN
+
+    until curl -sf "http://localhost:$PORT/api/v1/actuator/health" >/dev/null; do
+        sleep 1
+    done
+
+    wrk -t"$THREADS" -c"$CONNECTIONS" -d10s -s "$DIR/range-query.lua" "http://localhost:$PORT" >/dev/null
+    echo "virtual threads = $virtual:"
+    wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency -s "$DIR/range-query.lua" "http://localhost:$PORT" \
+        | grep -E "Requests/sec|^ +(50|99)%"
+}
+
+run_mode false
+run_mode true
@@ -0,0 +1,61 @@
+package com.kiskee.users.benchmark;
+
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BeanValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private UserCreateRequest validRequest;
+    private UserCreateRequest invalidPhoneRequest;
+
+    @Setup
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validRequest = new UserCreateRequest("email@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), "some address", "+380999999999");
+        invalidPhoneRequest = new UserCreateRequest("email@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), "some address", "380-99-999-99-99");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserCreateRequest>> validateValidRequest() {
+        return validator.validate(validRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserCreateRequest>> validateInvalidPhoneRequest() {
+        return validator.validate(invalidPhoneRequest);
+    }
+}
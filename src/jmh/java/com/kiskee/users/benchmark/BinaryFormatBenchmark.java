@@ -0,0 +1,79 @@
+package com.kiskee.users.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.kiskee.users.model.dto.MultipleResponseDto;
+import com.kiskee.users.model.dto.user.UserDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryFormatBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private MultipleResponseDto response;
+    private byte[] payload;
+
+    @Setup
+    public void setup() throws Exception {
+        objectMapper = switch (format) {
+            case "smile" -> SmileMapper.builder()
+                    .findAndAddModules()
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+            case "cbor" -> CBORMapper.builder()
+                    .findAndAddModules()
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+            default -> JsonMapper.builder()
+                    .findAndAddModules()
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+        };
+        response = new MultipleResponseDto(IntStream.range(0, size)
+                .mapToObj(index -> new UserDto(UUID.randomUUID(), "email" + index + "@google.com", "John", "Doe",
+                        LocalDate.of(1990, 2, 13).plusDays(index), "some address", "380999999999", 0L))
+                .toList(), "cursor");
+        payload = objectMapper.writeValueAsBytes(response);
+
+        System.out.printf("%n%s payload for %d users: %d bytes%n", format, size, payload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public MultipleResponseDto decode() throws Exception {
+        return objectMapper.readValue(payload, MultipleResponseDto.class);
+    }
+}
@@ -0,0 +1,53 @@
+package com.kiskee.users.benchmark;
+
+import com.kiskee.users.mapper.UserMapper;
+import com.kiskee.users.model.dto.user.UserDto;
+import com.kiskee.users.model.dto.user.UserPartialUpdateRequestDto;
+import com.kiskee.users.model.entity.User;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserMapperBenchmark {
+
+    private UserMapper userMapper;
+    private User user;
+    private UserPartialUpdateRequestDto updateRequest;
+
+    @Setup
+    public void setup() {
+        userMapper = Mappers.getMapper(UserMapper.class);
+        user = new User(UUID.randomUUID(), "email@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), "some address", "380999999999", 0L);
+        updateRequest = new UserPartialUpdateRequestDto("newEmail@google.com", null, "Smith",
+                null, null, "+380999999999");
+    }
+
+    @Benchmark
+    public UserDto toDto() {
+        return userMapper.toDto(user);
+    }
+
+    @Benchmark
+    public User updateEntity() {
+        return userMapper.updateEntity(user, updateRequest);
+    }
+}
@@ -0,0 +1,123 @@
+package com.kiskee.users.benchmark;
+
+import com.kiskee.users.mapper.UserMapper;
+import com.kiskee.users.model.dto.user.UserDto;
+import com.kiskee.users.model.entity.User;
+import com.kiskee.users.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserReadPathBenchmark {
+
+    private static final String PAGE_CONDITION = " WHERE u.birthDate BETWEEN :from AND :to ORDER BY u.birthDate, u.id";
+    private static final LocalDate FROM = LocalDate.of(1990, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2000, 1, 1);
+
+    @Param({"1", "100"})
+    private int pageSize;
+
+    private HikariDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private UserMapper userMapper;
+
+    @Setup
+    public void setup() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(User.class.getPackageName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(AvailableSettings.HBM2DDL_AUTO, "create",
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        userMapper = Mappers.getMapper(UserMapper.class);
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        for (int index = 0; index < 1000; index++) {
+            entityManager.persist(new User(null, "email" + index + "@google.com", "John", "Doe",
+                    FROM.plusDays(index), "some address", "380999999999", null));
+        }
+        entityManager.createNativeQuery("CREATE INDEX idx_users_birth_date_id ON users (birth_date, id)")
+                .executeUpdate();
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManagerFactory.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public List<UserDto> managedEntityAndMapper() {
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            return findEntityPage(entityManager);
+        }
+    }
+
+    @Benchmark
+    public List<UserDto> readOnlyEntityAndMapper() {
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            entityManager.unwrap(Session.class).setDefaultReadOnly(true);
+
+            return findEntityPage(entityManager);
+        }
+    }
+
+    @Benchmark
+    public List<UserDto> dtoProjection() {
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            return entityManager.createQuery(UserRepository.USER_DTO_SELECT + PAGE_CONDITION, UserDto.class)
+                    .setParameter("from", FROM)
+                    .setParameter("to", TO)
+                    .setMaxResults(pageSize)
+                    .getResultList();
+        }
+    }
+
+    private List<UserDto> findEntityPage(EntityManager entityManager) {
+        return entityManager.createQuery("SELECT u FROM users u" + PAGE_CONDITION, User.class)
+                .setParameter("from", FROM)
+                .setParameter("to", TO)
+                .setMaxResults(pageSize)
+                .getResultList().stream()
+                .map(userMapper::toDto)
+                .toList();
+    }
+}
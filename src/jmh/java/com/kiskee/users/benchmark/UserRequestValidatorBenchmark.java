@@ -0,0 +1,77 @@
+package com.kiskee.users.benchmark;
+
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.web.validator.UserRequestValidator;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserRequestValidatorBenchmark {
+
+    @Param({"valid", "invalid"})
+    private String request;
+
+    private ValidatorFactory validatorFactory;
+    private Validator beanValidator;
+    private Validator userRequestValidator;
+    private UserCreateRequest createRequest;
+
+    @Setup
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = new SpringValidatorAdapter(validatorFactory.getValidator());
+        userRequestValidator = new UserRequestValidator(Clock.systemDefaultZone(), validatorFactory.getValidator());
+        createRequest = "valid".equals(request)
+                ? new UserCreateRequest("email@google.com", "John", "Doe",
+                        LocalDate.of(1990, 2, 13), "some address", "+380999999999")
+                : new UserCreateRequest("email@google", "John", " ",
+                        LocalDate.of(1990, 2, 13), "some address", "380-99-999-99-99");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Errors beanValidation() {
+        return validate(beanValidator);
+    }
+
+    @Benchmark
+    public Errors userRequestValidator() {
+        return validate(userRequestValidator);
+    }
+
+    private Errors validate(Validator validator) {
+        Errors errors = new BeanPropertyBindingResult(createRequest, "userCreateRequest");
+        validator.validate(createRequest, errors);
+
+        return errors;
+    }
+}
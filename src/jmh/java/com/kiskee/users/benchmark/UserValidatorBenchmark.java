@@ -0,0 +1,53 @@
+package com.kiskee.users.benchmark;
+
+import com.kiskee.users.config.properties.UserProperties;
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.service.user.UserValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserValidatorBenchmark {
+
+    private UserValidator userValidator;
+    private UserCreateRequest createRequest;
+
+    @Setup
+    public void setup() {
+        UserProperties userProperties = new UserProperties();
+        userProperties.setMinimumAgeConstraint(18);
+
+        userValidator = new UserValidator(userProperties, Clock.systemDefaultZone());
+        createRequest = new UserCreateRequest("email@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), "some address", "380999999999");
+    }
+
+    @Benchmark
+    public void validateRegistrationRequest() {
+        userValidator.validateRegistrationRequest(createRequest);
+    }
+
+    @Benchmark
+    public boolean yearDifferenceAgeCheck() {
+        int userAge = LocalDate.now().getYear() - createRequest.getBirthDate().getYear();
+
+        return userAge >= 18;
+    }
+}
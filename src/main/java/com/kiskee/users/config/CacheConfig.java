@@ -0,0 +1,11 @@
+package com.kiskee.users.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String USERS_CACHE = "users";
+}
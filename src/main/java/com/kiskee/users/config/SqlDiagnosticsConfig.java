@@ -0,0 +1,39 @@
+package com.kiskee.users.config;
+
+import com.kiskee.users.config.datasource.StatementCountingDataSource;
+import com.kiskee.users.config.properties.SqlDiagnosticsProperties;
+import com.kiskee.users.web.filter.SqlDiagnosticsFilter;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "users.diagnostics.sql", name = "enabled", havingValue = "true")
+public class SqlDiagnosticsConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN_NAME.equals(beanName)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlDiagnosticsFilter sqlDiagnosticsFilter(SqlDiagnosticsProperties sqlDiagnosticsProperties) {
+        return new SqlDiagnosticsFilter(sqlDiagnosticsProperties);
+    }
+}
@@ -0,0 +1,7 @@
+package com.kiskee.users.config.datasource;
+
+public enum DataSourceType {
+
+    PRIMARY,
+    REPLICA
+}
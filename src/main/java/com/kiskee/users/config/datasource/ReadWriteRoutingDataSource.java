@@ -0,0 +1,41 @@
+package com.kiskee.users.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = ThreadLocal.withInitial(() -> false);
+
+    public ReadWriteRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource) {
+        setTargetDataSources(Map.of(DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+        afterPropertiesSet();
+    }
+
+    public static <T> T usePrimary(Supplier<T> action) {
+        boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(true);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_FORCED.set(previous);
+        }
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !isPrimaryForced()
+                ? DataSourceType.REPLICA
+                : DataSourceType.PRIMARY;
+    }
+}
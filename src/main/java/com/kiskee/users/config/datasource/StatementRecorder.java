@@ -0,0 +1,30 @@
+package com.kiskee.users.config.datasource;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@UtilityClass
+public class StatementRecorder {
+
+    private final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    public void start() {
+        STATEMENTS.set(new ArrayList<>());
+    }
+
+    public void record(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+    }
+
+    public List<String> stop() {
+        List<String> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+
+        return statements == null ? List.of() : statements;
+    }
+}
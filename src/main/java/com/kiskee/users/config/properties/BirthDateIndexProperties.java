@@ -0,0 +1,14 @@
+package com.kiskee.users.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "users.birth-date-index")
+public class BirthDateIndexProperties {
+
+    private Boolean enabled;
+    private Integer compactionThreshold;
+}
@@ -0,0 +1,17 @@
+package com.kiskee.users.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "users.diagnostics.sql")
+public class SqlDiagnosticsProperties {
+
+    private Boolean enabled;
+    private Integer statementThreshold;
+    private Duration timeThreshold;
+}
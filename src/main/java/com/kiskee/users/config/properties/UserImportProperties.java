@@ -0,0 +1,19 @@
+package com.kiskee.users.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "users.import")
+public class UserImportProperties {
+
+    private Integer batchSize;
+    private Integer maxConcurrentJobs;
+    private Integer queueCapacity;
+    private Duration jobRetention;
+    private Integer maxLineLength;
+}
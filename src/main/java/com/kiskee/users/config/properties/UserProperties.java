@@ -4,10 +4,19 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Data
 @Component
 @ConfigurationProperties(prefix = "users")
 public class UserProperties {
 
     private Integer minimumAgeConstraint;
+    private Integer defaultPageSize;
+    private Integer maxPageSize;
+    private Integer maxBulkSize;
+    private Integer maxMultiGetSize;
+    private Integer minSearchLength;
+    private Integer maxSearchLength;
+    private Duration readYourWritesWindow;
 }
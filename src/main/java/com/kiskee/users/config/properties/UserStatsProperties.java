@@ -0,0 +1,15 @@
+package com.kiskee.users.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "users.stats")
+public class UserStatsProperties {
+
+    private Boolean useSummaryTable;
+    private Integer defaultAgeBucketSize;
+    private Integer maxAgeBuckets;
+}
@@ -0,0 +1,10 @@
+package com.kiskee.users.exception;
+
+import com.kiskee.users.util.ExceptionMessage;
+
+public class BulkConflictException extends RuntimeException {
+
+    public BulkConflictException() {
+        super(ExceptionMessage.BULK_CONFLICT);
+    }
+}
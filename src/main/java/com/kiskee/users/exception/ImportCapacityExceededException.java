@@ -0,0 +1,10 @@
+package com.kiskee.users.exception;
+
+import com.kiskee.users.util.ExceptionMessage;
+
+public class ImportCapacityExceededException extends RuntimeException {
+
+    public ImportCapacityExceededException() {
+        super(ExceptionMessage.IMPORT_CAPACITY_EXCEEDED);
+    }
+}
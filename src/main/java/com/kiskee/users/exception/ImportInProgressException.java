@@ -0,0 +1,15 @@
+package com.kiskee.users.exception;
+
+import com.kiskee.users.util.ExceptionMessage;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImportInProgressException extends RuntimeException {
+
+    public ImportInProgressException(UUID jobId) {
+        super(String.format(ExceptionMessage.IMPORT_IN_PROGRESS, jobId));
+    }
+}
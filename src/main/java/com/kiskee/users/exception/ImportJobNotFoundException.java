@@ -0,0 +1,12 @@
+package com.kiskee.users.exception;
+
+import com.kiskee.users.util.ExceptionMessage;
+
+import java.util.UUID;
+
+public class ImportJobNotFoundException extends ResourceNotFoundException {
+
+    public ImportJobNotFoundException(UUID jobId) {
+        super(String.format(ExceptionMessage.IMPORT_JOB_NOT_FOUND, jobId));
+    }
+}
@@ -0,0 +1,15 @@
+package com.kiskee.users.exception;
+
+import com.kiskee.users.util.ExceptionMessage;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(UUID userId) {
+        super(String.format(ExceptionMessage.USER_VERSION_MISMATCH, userId));
+    }
+}
@@ -12,4 +12,8 @@ public class ResourceNotFoundException extends RuntimeException {
     public ResourceNotFoundException(UUID userId) {
         super(String.format(ExceptionMessage.USER_NOT_FOUND, userId));
     }
+
+    protected ResourceNotFoundException(String message) {
+        super(message);
+    }
 }
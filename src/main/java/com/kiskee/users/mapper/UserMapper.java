@@ -5,6 +5,7 @@ import com.kiskee.users.model.dto.user.UserDto;
 import com.kiskee.users.model.dto.user.UserUpdateRequest;
 import com.kiskee.users.model.entity.User;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
@@ -13,8 +14,12 @@ import java.util.Optional;
 @Mapper(componentModel = "spring", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
 public interface UserMapper {
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     User toEntity(UserCreateRequest createRequest);
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     User updateEntity(@MappingTarget User user, UserUpdateRequest updateRequest);
 
     UserDto toDto(User user);
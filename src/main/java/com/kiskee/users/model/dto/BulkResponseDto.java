@@ -0,0 +1,14 @@
+package com.kiskee.users.model.dto;
+
+import com.kiskee.users.model.dto.user.bulk.UserCreateResult;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class BulkResponseDto {
+
+    private List<UserCreateResult> data;
+}
@@ -0,0 +1,11 @@
+package com.kiskee.users.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class DeleteResponseDto {
+
+    private int deleted;
+}
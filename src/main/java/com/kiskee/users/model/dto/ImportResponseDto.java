@@ -0,0 +1,12 @@
+package com.kiskee.users.model.dto;
+
+import com.kiskee.users.model.dto.user.imports.UserImportJobDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ImportResponseDto {
+
+    private UserImportJobDto data;
+}
@@ -0,0 +1,16 @@
+package com.kiskee.users.model.dto;
+
+import com.kiskee.users.model.dto.user.UserDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class MultiGetResponseDto {
+
+    private List<UserDto> data;
+    private List<UUID> missingIds;
+}
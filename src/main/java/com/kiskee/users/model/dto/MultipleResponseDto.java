@@ -1,5 +1,6 @@
 package com.kiskee.users.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.kiskee.users.model.dto.user.UserDto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -8,7 +9,13 @@ import java.util.List;
 
 @Data
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class MultipleResponseDto {
 
     List<UserDto> data;
+    String nextCursor;
+
+    public MultipleResponseDto(List<UserDto> data) {
+        this(data, null);
+    }
 }
@@ -0,0 +1,17 @@
+package com.kiskee.users.model.dto;
+
+import com.kiskee.users.model.dto.user.stats.UserCountBucket;
+import com.kiskee.users.model.dto.user.stats.UserStatsGrouping;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class StatsResponseDto {
+
+    private UserStatsGrouping groupBy;
+    private long total;
+    private List<UserCountBucket> buckets;
+}
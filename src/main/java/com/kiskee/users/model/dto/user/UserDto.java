@@ -1,5 +1,6 @@
 package com.kiskee.users.model.dto.user;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -19,4 +20,7 @@ public class UserDto {
     private LocalDate birthDate;
     private String address;
     private String phoneNumber;
+
+    @JsonIgnore
+    private Long version;
 }
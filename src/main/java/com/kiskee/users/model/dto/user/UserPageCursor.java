@@ -0,0 +1,31 @@
+package com.kiskee.users.model.dto.user;
+
+import com.kiskee.users.util.ExceptionMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+public record UserPageCursor(LocalDate birthDate, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = birthDate + SEPARATOR + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserPageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+
+            return new UserPageCursor(LocalDate.parse(raw.substring(0, separatorIndex)),
+                    UUID.fromString(raw.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(ExceptionMessage.INVALID_PAGE_CURSOR);
+        }
+    }
+}
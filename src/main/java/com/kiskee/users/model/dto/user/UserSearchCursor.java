@@ -0,0 +1,23 @@
+package com.kiskee.users.model.dto.user;
+
+import com.kiskee.users.util.ExceptionMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+public record UserSearchCursor(UUID id) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserSearchCursor decode(String cursor) {
+        try {
+            return new UserSearchCursor(UUID.fromString(
+                    new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(ExceptionMessage.INVALID_PAGE_CURSOR);
+        }
+    }
+}
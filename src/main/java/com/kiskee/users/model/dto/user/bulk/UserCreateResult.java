@@ -0,0 +1,17 @@
+package com.kiskee.users.model.dto.user.bulk;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kiskee.users.model.dto.user.UserDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserCreateResult {
+
+    private int index;
+    private String email;
+    private UserCreateStatus status;
+    private UserDto user;
+}
@@ -0,0 +1,8 @@
+package com.kiskee.users.model.dto.user.bulk;
+
+public enum UserCreateStatus {
+
+    CREATED,
+    DUPLICATE,
+    UNDERAGE
+}
@@ -0,0 +1,24 @@
+package com.kiskee.users.model.dto.user.imports;
+
+import com.kiskee.users.util.ExceptionMessage;
+
+import java.util.Locale;
+
+public enum UserImportFormat {
+
+    CSV,
+    NDJSON;
+
+    public static UserImportFormat resolve(String fileName, String contentType) {
+        String name = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+        String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+
+        if (name.endsWith(".csv") || type.startsWith("text/csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl") || type.startsWith("application/x-ndjson")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException(ExceptionMessage.UNSUPPORTED_IMPORT_FORMAT);
+    }
+}
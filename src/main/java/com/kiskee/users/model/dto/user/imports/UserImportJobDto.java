@@ -0,0 +1,27 @@
+package com.kiskee.users.model.dto.user.imports;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportJobDto {
+
+    private UUID id;
+    private String fileName;
+    private UserImportFormat format;
+    private UserImportStatus status;
+    private long processedRows;
+    private long importedRows;
+    private long rejectedRows;
+    private long rowsPerSecond;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+}
@@ -0,0 +1,7 @@
+package com.kiskee.users.model.dto.user.imports;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonPropertyOrder({"row", "email", "reason"})
+public record UserImportRejection(long row, String email, String reason) {
+}
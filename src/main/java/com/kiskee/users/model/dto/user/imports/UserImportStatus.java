@@ -0,0 +1,9 @@
+package com.kiskee.users.model.dto.user.imports;
+
+public enum UserImportStatus {
+
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
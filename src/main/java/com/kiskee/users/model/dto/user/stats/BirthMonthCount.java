@@ -0,0 +1,4 @@
+package com.kiskee.users.model.dto.user.stats;
+
+public record BirthMonthCount(int year, int month, long count) {
+}
@@ -0,0 +1,12 @@
+package com.kiskee.users.model.dto.user.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class UserCountBucket {
+
+    private String bucket;
+    private long count;
+}
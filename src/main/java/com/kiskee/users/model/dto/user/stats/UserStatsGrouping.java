@@ -0,0 +1,8 @@
+package com.kiskee.users.model.dto.user.stats;
+
+public enum UserStatsGrouping {
+
+    YEAR,
+    MONTH,
+    AGE
+}
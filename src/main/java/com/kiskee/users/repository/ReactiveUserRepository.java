@@ -0,0 +1,105 @@
+package com.kiskee.users.repository;
+
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.model.dto.user.UserDto;
+import com.kiskee.users.model.dto.user.UserUpdateRequest;
+import io.r2dbc.spi.Readable;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+@Profile("reactive")
+@AllArgsConstructor
+public class ReactiveUserRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<UserDto> insert(UUID id, UserCreateRequest createRequest) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                        INSERT INTO users (id, email, first_name, last_name, birth_date, address, phone_number)
+                        VALUES (:id, :email, :firstName, :lastName, :birthDate, :address, :phoneNumber)
+                        RETURNING\s""" + UserUpdateStatement.USER_COLUMNS)
+                .bind("id", id)
+                .bind("email", createRequest.getEmail())
+                .bind("firstName", createRequest.getFirstName())
+                .bind("lastName", createRequest.getLastName())
+                .bind("birthDate", createRequest.getBirthDate());
+        spec = bindNullable(spec, "address", createRequest.getAddress());
+        spec = bindNullable(spec, "phoneNumber", createRequest.getPhoneNumber());
+
+        return spec.map(ReactiveUserRepository::toDto).one();
+    }
+
+    public Flux<String> findExistingEmails(Collection<String> emails) {
+        return databaseClient.sql("SELECT email FROM users WHERE email = ANY(:emails)")
+                .bind("emails", emails.toArray(String[]::new))
+                .map(row -> row.get("email", String.class))
+                .all();
+    }
+
+    public Mono<UserDto> findById(UUID id) {
+        return databaseClient.sql("SELECT " + UserUpdateStatement.USER_COLUMNS + " FROM users WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveUserRepository::toDto)
+                .one();
+    }
+
+    public Mono<UserDto> updateNonNullFields(UUID id, UserUpdateRequest updateRequest) {
+        UserUpdateStatement statement = UserUpdateStatement.of(id, updateRequest, null);
+
+        return databaseClient.sql(statement.sql())
+                .bindValues(statement.parameters())
+                .map(ReactiveUserRepository::toDto)
+                .one();
+    }
+
+    public Mono<Long> deleteById(UUID id) {
+        return databaseClient.sql("DELETE FROM users WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteByIds(Collection<UUID> ids) {
+        return databaseClient.sql("DELETE FROM users WHERE id = ANY(:ids)")
+                .bind("ids", ids.toArray(UUID[]::new))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Flux<UserDto> findByBirthDateBetween(LocalDate from, LocalDate to) {
+        return databaseClient.sql("SELECT " + UserUpdateStatement.USER_COLUMNS + """
+                         FROM users
+                        WHERE birth_date BETWEEN :from AND :to
+                        ORDER BY birth_date, id""")
+                .bind("from", from)
+                .bind("to", to)
+                .map(ReactiveUserRepository::toDto)
+                .all();
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec,
+                                                           String name, String value) {
+        return value == null ? spec.bindNull(name, String.class) : spec.bind(name, value);
+    }
+
+    private static UserDto toDto(Readable row) {
+        return new UserDto(
+                row.get("id", UUID.class),
+                row.get("email", String.class),
+                row.get("first_name", String.class),
+                row.get("last_name", String.class),
+                row.get("birth_date", LocalDate.class),
+                row.get("address", String.class),
+                row.get("phone_number", String.class),
+                row.get("version", Long.class));
+    }
+}
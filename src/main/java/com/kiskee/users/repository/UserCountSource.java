@@ -0,0 +1,15 @@
+package com.kiskee.users.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum UserCountSource {
+
+    USERS("users", "1"),
+    SUMMARY("user_birth_date_counts", "user_count");
+
+    private final String table;
+    private final String weight;
+}
@@ -1,15 +1,82 @@
 package com.kiskee.users.repository;
 
+import com.kiskee.users.model.dto.user.UserDto;
 import com.kiskee.users.model.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserRepositoryCustom {
 
-    boolean existsByEmail(String email);
+    String USER_DTO_SELECT = """
+            SELECT new com.kiskee.users.model.dto.user.UserDto(
+                u.id, u.email, u.firstName, u.lastName, u.birthDate, u.address, u.phoneNumber, u.version)
+            FROM users u""";
+
+    String USER_SEARCH_CONDITION = """
+             WHERE (lower(u.firstName) LIKE :pattern ESCAPE '\\'
+                OR lower(u.lastName) LIKE :pattern ESCAPE '\\'
+                OR lower(u.email) LIKE :pattern ESCAPE '\\')
+            """;
+
+    @Query("SELECT u.email FROM users u WHERE u.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Modifying
+    @Query("DELETE FROM users u WHERE u.id = :id")
+    int deleteUserById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("DELETE FROM users u WHERE u.id = :id AND u.version IN :versions")
+    int deleteUserByIdAndVersions(@Param("id") UUID id, @Param("versions") Collection<Long> versions);
+
+    @Modifying
+    @Query("DELETE FROM users u WHERE u.id IN :ids")
+    int deleteUsersByIds(@Param("ids") Collection<UUID> ids);
 
     List<User> findByBirthDateBetween(LocalDate startDate, LocalDate endDate);
+
+    @Query(USER_DTO_SELECT + " WHERE u.id = :id")
+    Optional<UserDto> findDtoById(@Param("id") UUID id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(USER_DTO_SELECT + " WHERE u.birthDate BETWEEN :from AND :to")
+    Stream<UserDto> streamByBirthDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query(USER_DTO_SELECT + """
+             WHERE u.birthDate BETWEEN :from AND :to
+            ORDER BY u.birthDate, u.id""")
+    List<UserDto> findFirstPageByBirthDateBetween(@Param("from") LocalDate from,
+                                                  @Param("to") LocalDate to,
+                                                  Limit limit);
+
+    @Query(USER_DTO_SELECT + """
+             WHERE (u.birthDate, u.id) > (:lastBirthDate, :lastId) AND u.birthDate BETWEEN :lastBirthDate AND :to
+            ORDER BY u.birthDate, u.id""")
+    List<UserDto> findNextPageByBirthDateBetween(@Param("lastBirthDate") LocalDate lastBirthDate,
+                                                 @Param("lastId") UUID lastId,
+                                                 @Param("to") LocalDate to,
+                                                 Limit limit);
+
+    @Query(USER_DTO_SELECT + USER_SEARCH_CONDITION + """
+             ORDER BY u.id""")
+    List<UserDto> searchFirstPage(@Param("pattern") String pattern, Limit limit);
+
+    @Query(USER_DTO_SELECT + USER_SEARCH_CONDITION + """
+             AND u.id > :lastId
+            ORDER BY u.id""")
+    List<UserDto> searchNextPage(@Param("pattern") String pattern, @Param("lastId") UUID lastId, Limit limit);
 }
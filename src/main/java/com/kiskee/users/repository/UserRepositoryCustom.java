@@ -0,0 +1,27 @@
+package com.kiskee.users.repository;
+
+import com.kiskee.users.model.dto.user.UserDto;
+import com.kiskee.users.model.dto.user.UserUpdateRequest;
+import com.kiskee.users.model.dto.user.stats.BirthMonthCount;
+import com.kiskee.users.model.entity.User;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+public interface UserRepositoryCustom {
+
+    Optional<User> updateNonNullFields(UUID id, UserUpdateRequest updateRequest, Set<Long> expectedVersions);
+
+    List<UserDto> findDtosByIds(Collection<UUID> ids);
+
+    void scanBirthDates(BiConsumer<UUID, LocalDate> consumer);
+
+    List<BirthMonthCount> countByBirthMonth(LocalDate from, LocalDate to, UserCountSource source);
+
+    long[] countByBirthDateRanges(List<LocalDate> boundaries, UserCountSource source);
+}
@@ -0,0 +1,131 @@
+package com.kiskee.users.repository;
+
+import com.kiskee.users.model.dto.user.UserDto;
+import com.kiskee.users.model.dto.user.UserUpdateRequest;
+import com.kiskee.users.model.dto.user.stats.BirthMonthCount;
+import com.kiskee.users.model.entity.User;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+@AllArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final String FIND_DTOS_BY_IDS_SQL =
+            "SELECT " + UserUpdateStatement.USER_COLUMNS + " FROM users WHERE id = ANY(:ids)";
+    private static final String SCAN_BIRTH_DATES_SQL = "SELECT id, birth_date FROM users ORDER BY birth_date, id";
+    private static final int SCAN_FETCH_SIZE = 10_000;
+    private static final String COUNT_BY_BIRTH_MONTH_SQL = """
+            SELECT EXTRACT(YEAR FROM birth_date) AS birth_year, EXTRACT(MONTH FROM birth_date) AS birth_month,
+                   sum(%s) AS user_count
+            FROM %s
+            WHERE birth_date BETWEEN :from AND :to
+            GROUP BY EXTRACT(YEAR FROM birth_date), EXTRACT(MONTH FROM birth_date)
+            ORDER BY birth_year, birth_month""";
+    private static final String COUNT_BY_BIRTH_DATE_RANGES_SQL = """
+            SELECT bucket, sum(weight) AS user_count
+            FROM (SELECT %s AS bucket, %s AS weight
+                  FROM %s
+                  WHERE birth_date >= :boundary0 AND birth_date < :boundary%d) ranges
+            GROUP BY bucket""";
+    private static final String UUID_TYPE_NAME = "uuid";
+
+    private static final RowMapper<User> USER_ROW_MAPPER = (rs, rowNum) -> new User(
+            rs.getObject("id", UUID.class),
+            rs.getString("email"),
+            rs.getString("first_name"),
+            rs.getString("last_name"),
+            rs.getDate("birth_date").toLocalDate(),
+            rs.getString("address"),
+            rs.getString("phone_number"),
+            rs.getLong("version"));
+
+    private static final RowMapper<UserDto> USER_DTO_ROW_MAPPER = (rs, rowNum) -> new UserDto(
+            rs.getObject("id", UUID.class),
+            rs.getString("email"),
+            rs.getString("first_name"),
+            rs.getString("last_name"),
+            rs.getDate("birth_date").toLocalDate(),
+            rs.getString("address"),
+            rs.getString("phone_number"),
+            rs.getLong("version"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<User> updateNonNullFields(UUID id, UserUpdateRequest updateRequest, Set<Long> expectedVersions) {
+        UserUpdateStatement statement = UserUpdateStatement.of(id, updateRequest, expectedVersions);
+
+        return jdbcTemplate.query(statement.sql(), statement.parameters(), USER_ROW_MAPPER).stream().findFirst();
+    }
+
+    @Override
+    public List<UserDto> findDtosByIds(Collection<UUID> ids) {
+        return jdbcTemplate.query(FIND_DTOS_BY_IDS_SQL, Map.of("ids", uuidArray(ids)), USER_DTO_ROW_MAPPER);
+    }
+
+    @Override
+    public void scanBirthDates(BiConsumer<UUID, LocalDate> consumer) {
+        jdbcTemplate.getJdbcOperations().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SCAN_BIRTH_DATES_SQL);
+            statement.setFetchSize(SCAN_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(rs.getObject(1, UUID.class), rs.getObject(2, LocalDate.class)));
+    }
+
+    @Override
+    public List<BirthMonthCount> countByBirthMonth(LocalDate from, LocalDate to, UserCountSource source) {
+        String sql = COUNT_BY_BIRTH_MONTH_SQL.formatted(source.getWeight(), source.getTable());
+
+        return jdbcTemplate.query(sql, Map.of("from", from, "to", to), (rs, rowNum) -> new BirthMonthCount(
+                rs.getInt("birth_year"), rs.getInt("birth_month"), rs.getLong("user_count")));
+    }
+
+    @Override
+    public long[] countByBirthDateRanges(List<LocalDate> boundaries, UserCountSource source) {
+        int ranges = boundaries.size() - 1;
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        StringBuilder bucket = new StringBuilder(ranges == 1 ? "0" : "CASE");
+        for (int index = 0; index <= ranges; index++) {
+            parameters.addValue("boundary" + index, boundaries.get(index));
+            if (index > 0 && index < ranges) {
+                bucket.append(" WHEN birth_date < :boundary").append(index).append(" THEN ").append(index - 1);
+            }
+        }
+        if (ranges > 1) {
+            bucket.append(" ELSE ").append(ranges - 1).append(" END");
+        }
+
+        String sql = COUNT_BY_BIRTH_DATE_RANGES_SQL.formatted(bucket, source.getWeight(), source.getTable(), ranges);
+        long[] counts = new long[ranges];
+        jdbcTemplate.query(sql, parameters, (RowCallbackHandler) rs ->
+                counts[rs.getInt("bucket")] = rs.getLong("user_count"));
+
+        return counts;
+    }
+
+    private AbstractSqlTypeValue uuidArray(Collection<UUID> ids) {
+        return new AbstractSqlTypeValue() {
+            @Override
+            protected Object createTypeValue(Connection connection, int sqlType, String typeName)
+                    throws SQLException {
+                return connection.createArrayOf(UUID_TYPE_NAME, ids.toArray());
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.kiskee.users.repository;
+
+import com.kiskee.users.model.dto.user.UserUpdateRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+record UserUpdateStatement(String sql, Map<String, Object> parameters) {
+
+    static final String USER_COLUMNS = "id, email, first_name, last_name, birth_date, address, phone_number, version";
+
+    static UserUpdateStatement of(UUID id, UserUpdateRequest updateRequest, Set<Long> expectedVersions) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("id", id);
+        String condition = "id = :id";
+        if (expectedVersions != null) {
+            condition += " AND version IN (:versions)";
+            parameters.put("versions", expectedVersions);
+        }
+        List<String> assignments = new ArrayList<>();
+
+        addAssignment(assignments, parameters, "email", updateRequest.getEmail());
+        addAssignment(assignments, parameters, "first_name", updateRequest.getFirstName());
+        addAssignment(assignments, parameters, "last_name", updateRequest.getLastName());
+        addAssignment(assignments, parameters, "birth_date", updateRequest.getBirthDate());
+        addAssignment(assignments, parameters, "address", updateRequest.getAddress());
+        addAssignment(assignments, parameters, "phone_number", updateRequest.getPhoneNumber());
+
+        String sql = assignments.isEmpty()
+                ? "SELECT " + USER_COLUMNS + " FROM users WHERE " + condition
+                : "UPDATE users SET " + String.join(", ", assignments) + ", version = version + 1 WHERE " + condition
+                + " RETURNING " + USER_COLUMNS;
+
+        return new UserUpdateStatement(sql, parameters);
+    }
+
+    private static void addAssignment(List<String> assignments, Map<String, Object> parameters,
+                                      String column, Object value) {
+        if (value != null) {
+            assignments.add(column + " = :" + column);
+            parameters.put(column, value);
+        }
+    }
+}
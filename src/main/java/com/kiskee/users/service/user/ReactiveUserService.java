@@ -0,0 +1,31 @@
+package com.kiskee.users.service.user;
+
+import com.kiskee.users.model.dto.BulkResponseDto;
+import com.kiskee.users.model.dto.DeleteResponseDto;
+import com.kiskee.users.model.dto.ResponseDto;
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.model.dto.user.UserDto;
+import com.kiskee.users.model.dto.user.UserUpdateRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReactiveUserService {
+
+    Mono<ResponseDto> createUser(UserCreateRequest createRequest);
+
+    Mono<BulkResponseDto> createUsers(List<UserCreateRequest> createRequests);
+
+    Mono<ResponseDto> getUser(UUID id);
+
+    Mono<ResponseDto> updateUser(UUID userId, UserUpdateRequest updateRequest);
+
+    Mono<Void> deleteUser(UUID id);
+
+    Mono<DeleteResponseDto> deleteUsers(List<UUID> ids);
+
+    Flux<UserDto> findUsersByBirthDateRange(LocalDate from, LocalDate to);
+}
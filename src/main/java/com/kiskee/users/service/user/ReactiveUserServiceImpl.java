@@ -0,0 +1,124 @@
+package com.kiskee.users.service.user;
+
+import com.kiskee.users.exception.BulkConflictException;
+import com.kiskee.users.exception.DuplicateResourceException;
+import com.kiskee.users.exception.ResourceNotFoundException;
+import com.kiskee.users.model.dto.BulkResponseDto;
+import com.kiskee.users.model.dto.DeleteResponseDto;
+import com.kiskee.users.model.dto.ResponseDto;
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.model.dto.user.UserDto;
+import com.kiskee.users.model.dto.user.UserUpdateRequest;
+import com.kiskee.users.model.dto.user.bulk.UserCreateResult;
+import com.kiskee.users.model.dto.user.bulk.UserCreateStatus;
+import com.kiskee.users.repository.ReactiveUserRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class ReactiveUserServiceImpl implements ReactiveUserService {
+
+    private final ReactiveUserRepository userRepository;
+    private final UserValidator userValidator;
+
+    @Override
+    public Mono<ResponseDto> createUser(UserCreateRequest createRequest) {
+        return Mono.fromRunnable(() -> userValidator.validateRegistrationRequest(createRequest))
+                .then(Mono.defer(() -> userRepository.insert(UUID.randomUUID(), createRequest)))
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> new DuplicateResourceException(createRequest.getEmail()))
+                .map(ResponseDto::new);
+    }
+
+    @Override
+    @Transactional
+    public Mono<BulkResponseDto> createUsers(List<UserCreateRequest> createRequests) {
+        return Mono.fromRunnable(() -> userValidator.validateBulkSize(createRequests.size()))
+                .then(Mono.defer(() -> userRepository.findExistingEmails(createRequests.stream()
+                                .map(UserCreateRequest::getEmail)
+                                .collect(Collectors.toSet()))
+                        .collect(Collectors.toSet())))
+                .flatMap(existingEmails -> createUsers(createRequests, existingEmails))
+                .onErrorMap(DataIntegrityViolationException.class, e -> new BulkConflictException());
+    }
+
+    @Override
+    public Mono<ResponseDto> getUser(UUID userId) {
+        return userRepository.findById(userId)
+                .map(ResponseDto::new)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(userId)));
+    }
+
+    @Override
+    public Mono<ResponseDto> updateUser(UUID userId, UserUpdateRequest updateRequest) {
+        return userRepository.updateNonNullFields(userId, updateRequest)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> new DuplicateResourceException(updateRequest.getEmail()))
+                .map(ResponseDto::new)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(userId)));
+    }
+
+    @Override
+    public Mono<Void> deleteUser(UUID id) {
+        return userRepository.deleteById(id)
+                .filter(deleted -> deleted > 0)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(id)))
+                .then();
+    }
+
+    @Override
+    public Mono<DeleteResponseDto> deleteUsers(List<UUID> ids) {
+        return Mono.fromRunnable(() -> {
+                    userValidator.validateBulkSize(ids.size());
+                    userValidator.validateIds(ids);
+                })
+                .then(Mono.defer(() -> userRepository.deleteByIds(Set.copyOf(ids))))
+                .map(deleted -> new DeleteResponseDto(Math.toIntExact(deleted)));
+    }
+
+    @Override
+    public Flux<UserDto> findUsersByBirthDateRange(LocalDate from, LocalDate to) {
+        return Mono.fromRunnable(() -> userValidator.validateBirthDateRange(from, to))
+                .thenMany(Flux.defer(() -> userRepository.findByBirthDateBetween(from, to)));
+    }
+
+    private Mono<BulkResponseDto> createUsers(List<UserCreateRequest> createRequests, Set<String> existingEmails) {
+        Set<String> acceptedEmails = new HashSet<>();
+        UserCreateResult[] results = new UserCreateResult[createRequests.size()];
+        List<Integer> pendingIndexes = new ArrayList<>();
+
+        for (int index = 0; index < createRequests.size(); index++) {
+            UserCreateRequest createRequest = createRequests.get(index);
+            String email = createRequest.getEmail();
+
+            if (!userValidator.isRegistrationAllowed(createRequest)) {
+                results[index] = new UserCreateResult(index, email, UserCreateStatus.UNDERAGE, null);
+            } else if (existingEmails.contains(email) || !acceptedEmails.add(email)) {
+                results[index] = new UserCreateResult(index, email, UserCreateStatus.DUPLICATE, null);
+            } else {
+                pendingIndexes.add(index);
+            }
+        }
+
+        return Flux.fromIterable(pendingIndexes)
+                .concatMap(index -> userRepository.insert(UUID.randomUUID(), createRequests.get(index))
+                        .map(user -> new UserCreateResult(index, user.getEmail(), UserCreateStatus.CREATED, user)))
+                .doOnNext(result -> results[result.getIndex()] = result)
+                .then(Mono.fromSupplier(() -> new BulkResponseDto(List.of(results))));
+    }
+}
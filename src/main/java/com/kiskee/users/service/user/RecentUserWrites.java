@@ -0,0 +1,36 @@
+package com.kiskee.users.service.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kiskee.users.config.properties.UserProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Component
+public class RecentUserWrites {
+
+    private static final long MAXIMUM_SIZE = 100_000;
+
+    private final Cache<UUID, Boolean> recentWrites;
+
+    public RecentUserWrites(UserProperties userProperties) {
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(userProperties.getReadYourWritesWindow())
+                .maximumSize(MAXIMUM_SIZE)
+                .build();
+    }
+
+    public void record(UUID userId) {
+        recentWrites.put(userId, Boolean.TRUE);
+    }
+
+    public void recordAll(Collection<UUID> userIds) {
+        userIds.forEach(this::record);
+    }
+
+    public boolean contains(UUID userId) {
+        return recentWrites.getIfPresent(userId) != null;
+    }
+}
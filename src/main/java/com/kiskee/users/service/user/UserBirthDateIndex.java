@@ -0,0 +1,397 @@
+package com.kiskee.users.service.user;
+
+import com.kiskee.users.config.properties.BirthDateIndexProperties;
+import com.kiskee.users.model.dto.user.UserPageCursor;
+import com.kiskee.users.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+@Profile("!reactive")
+public class UserBirthDateIndex implements DisposableBean {
+
+    private static final Entry DELETED = new Entry(Integer.MIN_VALUE, 0, 0);
+    private static final String COMPACTION_THREAD_NAME_PREFIX = "birth-date-index-";
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int compactionThreshold;
+    private final Executor compactionExecutor;
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableSet<Entry> addedEntries = new TreeSet<>();
+    private final Map<UUID, Entry> overriddenIds = new HashMap<>();
+    private Columns columns = new ColumnsBuilder(0).build();
+    private volatile boolean ready;
+
+    @Autowired
+    public UserBirthDateIndex(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                              BirthDateIndexProperties birthDateIndexProperties) {
+        this(userRepository, transactionManager, birthDateIndexProperties,
+                Executors.newSingleThreadExecutor(new CustomizableThreadFactory(COMPACTION_THREAD_NAME_PREFIX)));
+    }
+
+    public UserBirthDateIndex(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                              BirthDateIndexProperties birthDateIndexProperties, Executor compactionExecutor) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = Boolean.TRUE.equals(birthDateIndexProperties.getEnabled());
+        this.compactionThreshold = birthDateIndexProperties.getCompactionThreshold();
+        this.compactionExecutor = compactionExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled || ready) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        Columns loaded;
+        try {
+            loaded = transactionTemplate.execute(status -> load());
+        } catch (RuntimeException e) {
+            log.error("Could not build the birth date index, range queries keep reading from the database", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            columns = loaded;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        scheduleCompactionIfNeeded();
+        log.info("Loaded [{}] users into the birth date index in [{}] ms", loaded.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    public Optional<List<UserPageCursor>> findEntries(LocalDate from, LocalDate to, UserPageCursor after, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        boolean inclusive = after == null;
+        Entry start = inclusive ? new Entry(toEpochDay(from), 0, 0) : Entry.of(after.id(), after.birthDate());
+        int lastDay = toEpochDay(to);
+
+        lock.readLock().lock();
+        try {
+            List<UserPageCursor> entries = new ArrayList<>(limit);
+            int position = columns.search(start, inclusive);
+            Iterator<Entry> added = addedEntries.tailSet(start, inclusive).iterator();
+            Entry nextAdded = added.hasNext() ? added.next() : null;
+
+            while (entries.size() < limit) {
+                position = skipOverridden(position);
+                boolean hasBase = position < columns.size() && columns.epochDays()[position] <= lastDay;
+                boolean hasAdded = nextAdded != null && nextAdded.epochDay() <= lastDay;
+                if (!hasBase && !hasAdded) {
+                    break;
+                }
+                if (hasBase && (!hasAdded || columns.compareAt(position, nextAdded) < 0)) {
+                    entries.add(columns.entryAt(position++).toCursor());
+                } else {
+                    entries.add(nextAdded.toCursor());
+                    nextAdded = added.hasNext() ? added.next() : null;
+                }
+            }
+
+            return Optional.of(entries);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(UUID id, LocalDate birthDate) {
+        if (enabled) {
+            afterCommit(Map.of(id, Entry.of(id, birthDate)));
+        }
+    }
+
+    public void remove(UUID id) {
+        removeAll(List.of(id));
+    }
+
+    public void removeAll(Collection<UUID> ids) {
+        if (enabled) {
+            Map<UUID, Entry> changes = new HashMap<>();
+            ids.forEach(id -> changes.put(id, DELETED));
+            afterCommit(changes);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (compactionExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private Columns load() {
+        ColumnsBuilder builder = new ColumnsBuilder(Math.toIntExact(userRepository.count()));
+        userRepository.scanBirthDates((id, birthDate) -> builder.add(Entry.of(id, birthDate)));
+
+        return builder.build();
+    }
+
+    private void afterCommit(Map<UUID, Entry> changes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(changes);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(changes);
+            }
+        });
+    }
+
+    private void apply(Map<UUID, Entry> changes) {
+        lock.writeLock().lock();
+        try {
+            changes.forEach((id, entry) -> {
+                Entry previous = overriddenIds.put(id, entry);
+                if (previous != null && previous != DELETED) {
+                    addedEntries.remove(previous);
+                }
+                if (entry != DELETED) {
+                    addedEntries.add(entry);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+        scheduleCompactionIfNeeded();
+    }
+
+    private void scheduleCompactionIfNeeded() {
+        if (!needsCompaction() || !compactionScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            compactionExecutor.execute(this::compact);
+        } catch (RejectedExecutionException e) {
+            compactionScheduled.set(false);
+        }
+    }
+
+    private boolean needsCompaction() {
+        lock.readLock().lock();
+        try {
+            return ready && overriddenIds.size() >= compactionThreshold;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void compact() {
+        try {
+            Columns base;
+            List<Entry> added;
+            Map<UUID, Entry> overridden;
+            lock.readLock().lock();
+            try {
+                base = columns;
+                added = new ArrayList<>(addedEntries);
+                overridden = new HashMap<>(overriddenIds);
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            Columns merged = merge(base, added, overridden.keySet());
+
+            lock.writeLock().lock();
+            try {
+                columns = merged;
+                overridden.forEach((id, entry) -> {
+                    if (overriddenIds.remove(id, entry) && entry != DELETED) {
+                        addedEntries.remove(entry);
+                    }
+                });
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (RuntimeException e) {
+            log.error("Could not compact the birth date index", e);
+        } finally {
+            compactionScheduled.set(false);
+        }
+        scheduleCompactionIfNeeded();
+    }
+
+    private static Columns merge(Columns base, List<Entry> added, Set<UUID> overridden) {
+        ColumnsBuilder builder = new ColumnsBuilder(base.size() + added.size());
+        Iterator<Entry> addedIterator = added.iterator();
+        Entry nextAdded = addedIterator.hasNext() ? addedIterator.next() : null;
+        int position = skipOverridden(base, overridden, 0);
+
+        while (position < base.size() || nextAdded != null) {
+            if (nextAdded == null || position < base.size() && base.compareAt(position, nextAdded) < 0) {
+                builder.add(base.entryAt(position));
+                position = skipOverridden(base, overridden, position + 1);
+            } else {
+                builder.add(nextAdded);
+                nextAdded = addedIterator.hasNext() ? addedIterator.next() : null;
+            }
+        }
+
+        return builder.build();
+    }
+
+    private int skipOverridden(int position) {
+        return skipOverridden(columns, overriddenIds.keySet(), position);
+    }
+
+    private static int skipOverridden(Columns columns, Set<UUID> overridden, int position) {
+        if (overridden.isEmpty()) {
+            return position;
+        }
+        while (position < columns.size() && overridden.contains(columns.idAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int toEpochDay(LocalDate date) {
+        return (int) Math.clamp(date.toEpochDay(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    private static int compare(int epochDay, long mostSigBits, long leastSigBits, Entry other) {
+        int result = Integer.compare(epochDay, other.epochDay());
+        if (result == 0) {
+            result = Long.compareUnsigned(mostSigBits, other.mostSigBits());
+        }
+        if (result == 0) {
+            result = Long.compareUnsigned(leastSigBits, other.leastSigBits());
+        }
+        return result;
+    }
+
+    private record Entry(int epochDay, long mostSigBits, long leastSigBits) implements Comparable<Entry> {
+
+        static Entry of(UUID id, LocalDate birthDate) {
+            return new Entry(toEpochDay(birthDate), id.getMostSignificantBits(), id.getLeastSignificantBits());
+        }
+
+        UUID id() {
+            return new UUID(mostSigBits, leastSigBits);
+        }
+
+        UserPageCursor toCursor() {
+            return new UserPageCursor(LocalDate.ofEpochDay(epochDay), id());
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return compare(epochDay, mostSigBits, leastSigBits, other);
+        }
+    }
+
+    private record Columns(int[] epochDays, long[] mostSigBits, long[] leastSigBits) {
+
+        int size() {
+            return epochDays.length;
+        }
+
+        UUID idAt(int position) {
+            return new UUID(mostSigBits[position], leastSigBits[position]);
+        }
+
+        Entry entryAt(int position) {
+            return new Entry(epochDays[position], mostSigBits[position], leastSigBits[position]);
+        }
+
+        int compareAt(int position, Entry other) {
+            return compare(epochDays[position], mostSigBits[position], leastSigBits[position], other);
+        }
+
+        int search(Entry key, boolean inclusive) {
+            int low = 0;
+            int high = size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                int result = compareAt(middle, key);
+                if (result < 0 || result == 0 && !inclusive) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static class ColumnsBuilder {
+
+        private int[] epochDays;
+        private long[] mostSigBits;
+        private long[] leastSigBits;
+        private int size;
+
+        ColumnsBuilder(int capacity) {
+            epochDays = new int[capacity];
+            mostSigBits = new long[capacity];
+            leastSigBits = new long[capacity];
+        }
+
+        void add(Entry entry) {
+            if (size > 0 && compare(epochDays[size - 1], mostSigBits[size - 1], leastSigBits[size - 1], entry) >= 0) {
+                throw new IllegalStateException("Birth dates must be added in (birth_date, id) order");
+            }
+            if (size == epochDays.length) {
+                int capacity = Math.max(16, size + (size >> 1));
+                epochDays = Arrays.copyOf(epochDays, capacity);
+                mostSigBits = Arrays.copyOf(mostSigBits, capacity);
+                leastSigBits = Arrays.copyOf(leastSigBits, capacity);
+            }
+            epochDays[size] = entry.epochDay();
+            mostSigBits[size] = entry.mostSigBits();
+            leastSigBits[size] = entry.leastSigBits();
+            size++;
+        }
+
+        Columns build() {
+            if (size == epochDays.length) {
+                return new Columns(epochDays, mostSigBits, leastSigBits);
+            }
+            return new Columns(Arrays.copyOf(epochDays, size), Arrays.copyOf(mostSigBits, size),
+                    Arrays.copyOf(leastSigBits, size));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.kiskee.users.service.user;
+
+import com.kiskee.users.model.dto.user.bulk.UserCreateStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Component
+public class UserMetrics {
+
+    public static final String OUTCOMES = "users.outcomes";
+    public static final String OUTCOME_TAG = "outcome";
+
+    private final Map<Outcome, Counter> outcomeCounters = new EnumMap<>(Outcome.class);
+
+    public UserMetrics(MeterRegistry meterRegistry) {
+        for (Outcome outcome : Outcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder(OUTCOMES)
+                    .tag(OUTCOME_TAG, outcome.getTag())
+                    .register(meterRegistry));
+        }
+    }
+
+    public void record(Outcome outcome) {
+        outcomeCounters.get(outcome).increment();
+    }
+
+    public void record(UserCreateStatus status) {
+        record(switch (status) {
+            case CREATED -> Outcome.CREATED;
+            case DUPLICATE -> Outcome.DUPLICATE;
+            case UNDERAGE -> Outcome.UNDERAGE;
+        });
+    }
+
+    public enum Outcome {
+
+        CREATED,
+        DUPLICATE,
+        UNDERAGE,
+        NOT_FOUND;
+
+        public String getTag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -1,22 +1,39 @@
 package com.kiskee.users.service.user;
 
+import com.kiskee.users.model.dto.BulkResponseDto;
+import com.kiskee.users.model.dto.DeleteResponseDto;
+import com.kiskee.users.model.dto.MultiGetResponseDto;
 import com.kiskee.users.model.dto.MultipleResponseDto;
 import com.kiskee.users.model.dto.ResponseDto;
 import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.model.dto.user.UserDto;
 import com.kiskee.users.model.dto.user.UserUpdateRequest;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface UserService {
 
     ResponseDto createUser(UserCreateRequest createRequest);
 
+    BulkResponseDto createUsers(List<UserCreateRequest> createRequests);
+
     ResponseDto getUser(UUID id);
 
-    ResponseDto updateUser(UUID userId, UserUpdateRequest updateRequest);
+    MultiGetResponseDto getUsers(List<UUID> ids);
+
+    ResponseDto updateUser(UUID userId, UserUpdateRequest updateRequest, Set<Long> expectedVersions);
+
+    void deleteUser(UUID id, Set<Long> expectedVersions);
+
+    DeleteResponseDto deleteUsers(List<UUID> ids);
+
+    MultipleResponseDto findUsersByBirthDateRange(LocalDate from, LocalDate to, String cursor, Integer size);
 
-    void deleteUser(UUID id);
+    void exportUsersByBirthDateRange(LocalDate from, LocalDate to, Consumer<UserDto> consumer);
 
-    MultipleResponseDto findUsersByBirthDateRange(LocalDate from, LocalDate to);
+    MultipleResponseDto searchUsers(String query, String cursor, Integer size);
 }
@@ -1,82 +1,364 @@
 package com.kiskee.users.service.user;
 
+import com.kiskee.users.config.CacheConfig;
+import com.kiskee.users.config.datasource.ReadWriteRoutingDataSource;
+import com.kiskee.users.config.properties.UserProperties;
+import com.kiskee.users.exception.BulkConflictException;
 import com.kiskee.users.exception.DuplicateResourceException;
+import com.kiskee.users.exception.PreconditionFailedException;
+import com.kiskee.users.exception.RegistrationRestrictionException;
 import com.kiskee.users.exception.ResourceNotFoundException;
 import com.kiskee.users.mapper.UserMapper;
+import com.kiskee.users.model.dto.BulkResponseDto;
+import com.kiskee.users.model.dto.DeleteResponseDto;
+import com.kiskee.users.model.dto.MultiGetResponseDto;
 import com.kiskee.users.model.dto.MultipleResponseDto;
 import com.kiskee.users.model.dto.ResponseDto;
 import com.kiskee.users.model.dto.user.UserCreateRequest;
 import com.kiskee.users.model.dto.user.UserDto;
+import com.kiskee.users.model.dto.user.UserPageCursor;
+import com.kiskee.users.model.dto.user.UserSearchCursor;
 import com.kiskee.users.model.dto.user.UserUpdateRequest;
+import com.kiskee.users.model.dto.user.bulk.UserCreateResult;
+import com.kiskee.users.model.dto.user.bulk.UserCreateStatus;
+import com.kiskee.users.model.entity.User;
 import com.kiskee.users.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Profile("!reactive")
+@Timed("users.service")
 @AllArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    private static final Pattern LIKE_WILDCARDS = Pattern.compile("[\\\\%_]");
+
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final UserValidator userValidator;
+    private final UserProperties userProperties;
+    private final RecentUserWrites recentUserWrites;
+    private final UserMetrics userMetrics;
+    private final UserBirthDateIndex userBirthDateIndex;
+    private final CacheManager cacheManager;
 
     @Override
     @Transactional
     public ResponseDto createUser(UserCreateRequest createRequest) {
-        userValidator.validateRegistrationRequest(createRequest);
+        try {
+            userValidator.validateRegistrationRequest(createRequest);
+
+            ResponseDto response = userMapper.toEntityOpt(createRequest)
+                    .map(userRepository::saveAndFlush)
+                    .map(this::recordWrite)
+                    .map(userMapper::toDto)
+                    .map(ResponseDto::new)
+                    .orElseThrow();
+            userMetrics.record(UserMetrics.Outcome.CREATED);
 
-        if (userRepository.existsByEmail(createRequest.getEmail())) {
+            return response;
+        } catch (RegistrationRestrictionException e) {
+            userMetrics.record(UserMetrics.Outcome.UNDERAGE);
+            throw e;
+        } catch (DataIntegrityViolationException e) {
+            userMetrics.record(UserMetrics.Outcome.DUPLICATE);
             throw new DuplicateResourceException(createRequest.getEmail());
         }
-        return userMapper.toEntityOpt(createRequest)
-                .map(userRepository::save)
-                .map(userMapper::toDto)
-                .map(ResponseDto::new)
-                .orElseThrow();
     }
 
     @Override
+    @Transactional
+    public BulkResponseDto createUsers(List<UserCreateRequest> createRequests) {
+        userValidator.validateBulkSize(createRequests.size());
+
+        Set<String> existingEmails = userRepository.findExistingEmails(createRequests.stream()
+                .map(UserCreateRequest::getEmail)
+                .collect(Collectors.toSet()));
+        Set<String> acceptedEmails = new HashSet<>();
+
+        UserCreateResult[] results = new UserCreateResult[createRequests.size()];
+        List<Integer> pendingIndexes = new ArrayList<>();
+        List<User> pendingUsers = new ArrayList<>();
+
+        for (int index = 0; index < createRequests.size(); index++) {
+            UserCreateRequest createRequest = createRequests.get(index);
+            String email = createRequest.getEmail();
+
+            if (!userValidator.isRegistrationAllowed(createRequest)) {
+                results[index] = new UserCreateResult(index, email, UserCreateStatus.UNDERAGE, null);
+            } else if (existingEmails.contains(email) || !acceptedEmails.add(email)) {
+                results[index] = new UserCreateResult(index, email, UserCreateStatus.DUPLICATE, null);
+            } else {
+                pendingIndexes.add(index);
+                pendingUsers.add(userMapper.toEntity(createRequest));
+            }
+        }
+
+        List<User> createdUsers;
+        try {
+            createdUsers = userRepository.saveAllAndFlush(pendingUsers);
+        } catch (DataIntegrityViolationException e) {
+            userMetrics.record(UserMetrics.Outcome.DUPLICATE);
+            throw new BulkConflictException();
+        }
+        for (int i = 0; i < createdUsers.size(); i++) {
+            int index = pendingIndexes.get(i);
+            User user = recordWrite(createdUsers.get(i));
+            results[index] = new UserCreateResult(index, user.getEmail(), UserCreateStatus.CREATED,
+                    userMapper.toDto(user));
+        }
+
+        for (UserCreateResult result : results) {
+            userMetrics.record(result.getStatus());
+        }
+
+        return new BulkResponseDto(List.of(results));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public ResponseDto getUser(UUID userId) {
-        return userRepository.findById(userId)
-                .map(userMapper::toDto)
+        Supplier<Optional<UserDto>> query = () -> userRepository.findDtoById(userId);
+
+        return (recentUserWrites.contains(userId) ? ReadWriteRoutingDataSource.usePrimary(query) : query.get())
                 .map(ResponseDto::new)
-                .orElseThrow(() -> new ResourceNotFoundException(userId));
+                .orElseThrow(() -> notFound(userId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MultiGetResponseDto getUsers(List<UUID> ids) {
+        userValidator.validateMultiGetSize(ids.size());
+        userValidator.validateIds(ids);
+        Set<UUID> uniqueIds = new LinkedHashSet<>(ids);
+
+        Map<UUID, UserDto> foundUsers = findDtosByIds(uniqueIds);
+
+        List<UserDto> users = new ArrayList<>(foundUsers.size());
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID id : uniqueIds) {
+            UserDto user = foundUsers.get(id);
+            if (user == null) {
+                missingIds.add(id);
+            } else {
+                users.add(user);
+            }
+        }
+
+        return new MultiGetResponseDto(users, missingIds);
     }
 
     @Override
     @Transactional
-    public ResponseDto updateUser(UUID userId, UserUpdateRequest updateRequest) {
-        return userRepository.findById(userId)
-                .map(user -> userMapper.updateEntity(user, updateRequest))
-                .map(userRepository::save)
-                .map(userMapper::toDto)
-                .map(ResponseDto::new)
-                .orElseThrow(() -> new ResourceNotFoundException(userId));
+    @CachePut(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
+    public ResponseDto updateUser(UUID userId, UserUpdateRequest updateRequest, Set<Long> expectedVersions) {
+        recentUserWrites.record(userId);
+        try {
+            return userRepository.updateNonNullFields(userId, updateRequest, expectedVersions)
+                    .map(this::indexWrite)
+                    .map(userMapper::toDto)
+                    .map(ResponseDto::new)
+                    .orElseThrow(() -> notFoundOrModified(userId, expectedVersions));
+        } catch (DataIntegrityViolationException e) {
+            userMetrics.record(UserMetrics.Outcome.DUPLICATE);
+            throw new DuplicateResourceException(updateRequest.getEmail());
+        }
     }
 
     @Override
     @Transactional
-    public void deleteUser(UUID id) {
-        userRepository.findById(id)
-                .ifPresentOrElse(userRepository::delete,
-                        () -> {
-                            throw new ResourceNotFoundException(id);
-                        });
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#id")
+    public void deleteUser(UUID id, Set<Long> expectedVersions) {
+        recentUserWrites.record(id);
+        int deleted = expectedVersions == null
+                ? userRepository.deleteUserById(id)
+                : userRepository.deleteUserByIdAndVersions(id, expectedVersions);
+        if (deleted == 0) {
+            throw notFoundOrModified(id, expectedVersions);
+        }
+        userBirthDateIndex.remove(id);
     }
 
     @Override
-    public MultipleResponseDto findUsersByBirthDateRange(LocalDate from, LocalDate to) {
+    @Transactional
+    public DeleteResponseDto deleteUsers(List<UUID> ids) {
+        userValidator.validateBulkSize(ids.size());
+        userValidator.validateIds(ids);
+        Set<UUID> uniqueIds = Set.copyOf(ids);
+        recentUserWrites.recordAll(uniqueIds);
+        int deleted = userRepository.deleteUsersByIds(uniqueIds);
+        userBirthDateIndex.removeAll(uniqueIds);
+        evictCachedUsers(uniqueIds);
+
+        return new DeleteResponseDto(deleted);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MultipleResponseDto findUsersByBirthDateRange(LocalDate from, LocalDate to, String cursor, Integer size) {
+        userValidator.validateBirthDateRange(from, to);
+        int pageSize = resolvePageSize(size);
+
+        UserPageCursor pageCursor = cursor == null ? null : UserPageCursor.decode(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+        Optional<List<UserPageCursor>> indexEntries = userBirthDateIndex.findEntries(from, to, pageCursor, limit.max());
+        if (indexEntries.isPresent()) {
+            return toIndexedPage(indexEntries.get(), pageSize);
+        }
+        List<UserDto> users = pageCursor == null
+                ? userRepository.findFirstPageByBirthDateBetween(from, to, limit)
+                : findNextPage(pageCursor, to, limit);
+
+        boolean hasNextPage = users.size() > pageSize;
+        List<UserDto> data = hasNextPage ? users.subList(0, pageSize) : users;
+        String nextCursor = hasNextPage ? toCursor(data.getLast()).encode() : null;
+
+        return new MultipleResponseDto(data, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportUsersByBirthDateRange(LocalDate from, LocalDate to, Consumer<UserDto> consumer) {
         userValidator.validateBirthDateRange(from, to);
 
-        List<UserDto> data = userRepository.findByBirthDateBetween(from, to).stream()
-                .map(userMapper::toDto)
+        try (Stream<UserDto> users = userRepository.streamByBirthDateBetween(from, to)) {
+            users.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MultipleResponseDto searchUsers(String query, String cursor, Integer size) {
+        userValidator.validateSearchQuery(query);
+        int pageSize = resolvePageSize(size);
+
+        String pattern = toContainsPattern(query);
+        Limit limit = Limit.of(pageSize + 1);
+        List<UserDto> users = cursor == null
+                ? userRepository.searchFirstPage(pattern, limit)
+                : userRepository.searchNextPage(pattern, UserSearchCursor.decode(cursor).id(), limit);
+
+        boolean hasNextPage = users.size() > pageSize;
+        List<UserDto> data = hasNextPage ? users.subList(0, pageSize) : users;
+        String nextCursor = hasNextPage ? new UserSearchCursor(data.getLast().getId()).encode() : null;
+
+        return new MultipleResponseDto(data, nextCursor);
+    }
+
+    private ResourceNotFoundException notFound(UUID userId) {
+        userMetrics.record(UserMetrics.Outcome.NOT_FOUND);
+
+        return new ResourceNotFoundException(userId);
+    }
+
+    private RuntimeException notFoundOrModified(UUID userId, Set<Long> expectedVersions) {
+        if (expectedVersions != null && userRepository.existsById(userId)) {
+            return new PreconditionFailedException(userId);
+        }
+
+        return notFound(userId);
+    }
+
+    private User recordWrite(User user) {
+        recentUserWrites.record(user.getId());
+
+        return indexWrite(user);
+    }
+
+    private User indexWrite(User user) {
+        userBirthDateIndex.put(user.getId(), user.getBirthDate());
+
+        return user;
+    }
+
+    private void evictCachedUsers(Collection<UUID> ids) {
+        Cache cache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+    }
+
+    private Map<UUID, UserDto> findDtosByIds(Collection<UUID> ids) {
+        Supplier<List<UserDto>> query = () -> userRepository.findDtosByIds(ids);
+
+        return (ids.stream().anyMatch(recentUserWrites::contains)
+                ? ReadWriteRoutingDataSource.usePrimary(query)
+                : query.get()).stream()
+                .collect(Collectors.toMap(UserDto::getId, Function.identity()));
+    }
+
+    private MultipleResponseDto toIndexedPage(List<UserPageCursor> entries, int pageSize) {
+        boolean hasNextPage = entries.size() > pageSize;
+        List<UserPageCursor> page = hasNextPage ? entries.subList(0, pageSize) : entries;
+        List<UserDto> data = findDtosInOrder(page.stream().map(UserPageCursor::id).toList());
+        String nextCursor = hasNextPage ? page.getLast().encode() : null;
+
+        return new MultipleResponseDto(data, nextCursor);
+    }
+
+    private List<UserDto> findDtosInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, UserDto> foundUsers = findDtosByIds(ids);
+
+        return ids.stream()
+                .map(foundUsers::get)
+                .filter(Objects::nonNull)
                 .toList();
+    }
+
+    private List<UserDto> findNextPage(UserPageCursor pageCursor, LocalDate to, Limit limit) {
+        return userRepository.findNextPageByBirthDateBetween(pageCursor.birthDate(), pageCursor.id(), to, limit);
+    }
+
+    private UserPageCursor toCursor(UserDto user) {
+        return new UserPageCursor(user.getBirthDate(), user.getId());
+    }
+
+    private String toContainsPattern(String query) {
+        String escaped = LIKE_WILDCARDS.matcher(query.strip().toLowerCase(Locale.ROOT)).replaceAll("\\\\$0");
+
+        return "%" + escaped + "%";
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return userProperties.getDefaultPageSize();
+        }
+        userValidator.validatePageSize(size);
 
-        return new MultipleResponseDto(data);
+        return Math.min(size, userProperties.getMaxPageSize());
     }
 }
@@ -4,26 +4,36 @@ import com.kiskee.users.config.properties.UserProperties;
 import com.kiskee.users.exception.RegistrationRestrictionException;
 import com.kiskee.users.model.dto.user.UserCreateRequest;
 import com.kiskee.users.util.ExceptionMessage;
-import lombok.AllArgsConstructor;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
 
 @Component
-@AllArgsConstructor
+@Timed("users.validator")
+@RequiredArgsConstructor
 public class UserValidator {
 
     private final UserProperties userProperties;
+    private final Clock clock;
 
-    public void validateRegistrationRequest(UserCreateRequest request) {
-        int userAge = LocalDate.now().getYear() - request.getBirthDate().getYear();
-        boolean registrationIsAllowed = userAge >= userProperties.getMinimumAgeConstraint();
+    private volatile AgeCutoff ageCutoff;
 
-        if (!registrationIsAllowed) {
+    public void validateRegistrationRequest(UserCreateRequest request) {
+        if (!isRegistrationAllowed(request)) {
             throw new RegistrationRestrictionException(ExceptionMessage.USER_REGISTRATION_RESTRICTION);
         }
     }
 
+    public boolean isRegistrationAllowed(UserCreateRequest request) {
+        return request.getBirthDate().toEpochDay() <= latestAllowedBirthDay();
+    }
+
     public void validateBirthDateRange(LocalDate from, LocalDate to) {
         boolean isRangeValid = from.isBefore(to) || from.isEqual(to);
 
@@ -31,4 +41,76 @@ public class UserValidator {
             throw new IllegalArgumentException(ExceptionMessage.INVALID_DATE_RANGE);
         }
     }
+
+    public void validateBulkSize(int size) {
+        boolean isSizeValid = size > 0 && size <= userProperties.getMaxBulkSize();
+
+        if (!isSizeValid) {
+            throw new IllegalArgumentException(String.format(ExceptionMessage.INVALID_BULK_SIZE,
+                    userProperties.getMaxBulkSize()));
+        }
+    }
+
+    public void validateIds(Collection<UUID> ids) {
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException(ExceptionMessage.NULL_IDS);
+        }
+    }
+
+    public void validateMultiGetSize(int size) {
+        boolean isSizeValid = size > 0 && size <= userProperties.getMaxMultiGetSize();
+
+        if (!isSizeValid) {
+            throw new IllegalArgumentException(String.format(ExceptionMessage.INVALID_MULTI_GET_SIZE,
+                    userProperties.getMaxMultiGetSize()));
+        }
+    }
+
+    public void validateSearchQuery(String query) {
+        int length = query.strip().length();
+        boolean isQueryValid = length >= userProperties.getMinSearchLength()
+                && length <= userProperties.getMaxSearchLength();
+
+        if (!isQueryValid) {
+            throw new IllegalArgumentException(String.format(ExceptionMessage.INVALID_SEARCH_QUERY,
+                    userProperties.getMinSearchLength(), userProperties.getMaxSearchLength()));
+        }
+    }
+
+    public void validatePageSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException(ExceptionMessage.INVALID_PAGE_SIZE);
+        }
+    }
+
+    public void validateAgeBucketSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException(ExceptionMessage.INVALID_AGE_BUCKET_SIZE);
+        }
+    }
+
+    public void validateAgeBucketCount(int count, int maxCount) {
+        if (count > maxCount) {
+            throw new IllegalArgumentException(String.format(ExceptionMessage.TOO_MANY_AGE_BUCKETS, maxCount));
+        }
+    }
+
+    private long latestAllowedBirthDay() {
+        AgeCutoff cutoff = ageCutoff;
+        if (cutoff == null || clock.millis() >= cutoff.validUntilMillis()) {
+            cutoff = computeAgeCutoff();
+            ageCutoff = cutoff;
+        }
+        return cutoff.latestAllowedBirthDay();
+    }
+
+    private AgeCutoff computeAgeCutoff() {
+        LocalDate today = LocalDate.now(clock);
+        long validUntilMillis = today.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+
+        return new AgeCutoff(today.minusYears(userProperties.getMinimumAgeConstraint()).toEpochDay(), validUntilMillis);
+    }
+
+    private record AgeCutoff(long latestAllowedBirthDay, long validUntilMillis) {
+    }
 }
@@ -0,0 +1,98 @@
+package com.kiskee.users.service.user.imports;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.util.ExceptionMessage;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+class CsvUserImportReader implements UserImportReader {
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.WRAP_AS_ARRAY)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .build();
+
+    private static final String[] COLUMNS = {"email", "firstName", "lastName", "birthDate", "address", "phoneNumber"};
+    private static final int REQUIRED_COLUMNS = 4;
+    private static final int EMAIL = 0;
+    private static final int FIRST_NAME = 1;
+    private static final int LAST_NAME = 2;
+    private static final int BIRTH_DATE = 3;
+    private static final int ADDRESS = 4;
+    private static final int PHONE_NUMBER = 5;
+
+    private final MappingIterator<String[]> rows;
+    private final int[] columnIndexes;
+    private long row;
+
+    CsvUserImportReader(Reader reader) throws IOException {
+        this.rows = CSV_MAPPER.readerFor(String[].class).readValues(reader);
+        this.columnIndexes = resolveColumnIndexes(rows.hasNextValue() ? rows.nextValue() : new String[0]);
+    }
+
+    @Override
+    public UserImportRow next() throws IOException {
+        if (!rows.hasNextValue()) {
+            return null;
+        }
+        String[] values = rows.nextValue();
+        row++;
+
+        String email = value(values, EMAIL);
+        String birthDate = value(values, BIRTH_DATE);
+        LocalDate parsedBirthDate;
+        try {
+            parsedBirthDate = birthDate == null ? null : LocalDate.parse(birthDate);
+        } catch (DateTimeParseException e) {
+            return UserImportRow.malformed(row, email,
+                    COLUMNS[BIRTH_DATE] + ": " + ExceptionMessage.INVALID_DATE_FORMAT);
+        }
+
+        return UserImportRow.parsed(row, new UserCreateRequest(email, value(values, FIRST_NAME),
+                value(values, LAST_NAME), parsedBirthDate, value(values, ADDRESS), value(values, PHONE_NUMBER)));
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.close();
+    }
+
+    private String value(String[] values, int column) {
+        int index = columnIndexes[column];
+        if (index < 0 || index >= values.length || values[index].isEmpty()) {
+            return null;
+        }
+        return values[index];
+    }
+
+    private static int[] resolveColumnIndexes(String[] header) {
+        List<String> normalizedHeader = Arrays.stream(header)
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+
+        int[] indexes = new int[COLUMNS.length];
+        List<String> missingColumns = new ArrayList<>();
+        for (int column = 0; column < COLUMNS.length; column++) {
+            indexes[column] = normalizedHeader.indexOf(COLUMNS[column].toLowerCase(Locale.ROOT));
+            if (indexes[column] < 0 && column < REQUIRED_COLUMNS) {
+                missingColumns.add(COLUMNS[column]);
+            }
+        }
+        if (!missingColumns.isEmpty()) {
+            throw new IllegalArgumentException(String.format(ExceptionMessage.MISSING_IMPORT_COLUMNS,
+                    String.join(", ", missingColumns)));
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,30 @@
+package com.kiskee.users.service.user.imports;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.UUID;
+
+class FinishedJobExpiry implements Expiry<UUID, UserImportJob> {
+
+    private final long retentionNanos;
+
+    FinishedJobExpiry(Duration retention) {
+        this.retentionNanos = retention.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(UUID jobId, UserImportJob job, long currentTime) {
+        return job.isFinished() ? retentionNanos : Long.MAX_VALUE;
+    }
+
+    @Override
+    public long expireAfterUpdate(UUID jobId, UserImportJob job, long currentTime, long currentDuration) {
+        return expireAfterCreate(jobId, job, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(UUID jobId, UserImportJob job, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
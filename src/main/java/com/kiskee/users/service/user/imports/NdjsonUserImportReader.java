@@ -0,0 +1,78 @@
+package com.kiskee.users.service.user.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.util.ExceptionMessage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+class NdjsonUserImportReader implements UserImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private final int maxLineLength;
+    private final StringBuilder lineBuffer;
+    private boolean truncated;
+    private long row;
+
+    NdjsonUserImportReader(BufferedReader reader, ObjectReader objectReader, int maxLineLength) {
+        this.reader = reader;
+        this.objectReader = objectReader;
+        this.maxLineLength = maxLineLength;
+        this.lineBuffer = new StringBuilder();
+    }
+
+    @Override
+    public UserImportRow next() throws IOException {
+        String line;
+        while ((line = readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            row++;
+            if (truncated) {
+                return UserImportRow.malformed(row, null,
+                        String.format(ExceptionMessage.IMPORT_ROW_TOO_LONG, maxLineLength));
+            }
+            try {
+                UserCreateRequest request = objectReader.readValue(line);
+
+                return request == null
+                        ? UserImportRow.malformed(row, null, String.format(ExceptionMessage.MALFORMED_IMPORT_ROW, line))
+                        : UserImportRow.parsed(row, request);
+            } catch (JsonProcessingException e) {
+                return UserImportRow.malformed(row, null,
+                        String.format(ExceptionMessage.MALFORMED_IMPORT_ROW, e.getOriginalMessage()));
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String readLine() throws IOException {
+        lineBuffer.setLength(0);
+        truncated = false;
+        int character = reader.read();
+        if (character == -1) {
+            return null;
+        }
+        while (character != -1 && character != '\n') {
+            if (lineBuffer.length() < maxLineLength) {
+                lineBuffer.append((char) character);
+            } else {
+                truncated = true;
+            }
+            character = reader.read();
+        }
+        if (!lineBuffer.isEmpty() && lineBuffer.charAt(lineBuffer.length() - 1) == '\r') {
+            lineBuffer.setLength(lineBuffer.length() - 1);
+        }
+        return lineBuffer.toString();
+    }
+}
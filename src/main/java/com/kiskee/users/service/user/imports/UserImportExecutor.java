@@ -0,0 +1,42 @@
+package com.kiskee.users.service.user.imports;
+
+import com.kiskee.users.config.properties.UserImportProperties;
+import com.kiskee.users.exception.ImportCapacityExceededException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Profile("!reactive")
+public class UserImportExecutor implements DisposableBean {
+
+    private static final String THREAD_NAME_PREFIX = "user-import-";
+
+    private final ThreadPoolExecutor executor;
+
+    public UserImportExecutor(UserImportProperties userImportProperties) {
+        int maxConcurrentJobs = userImportProperties.getMaxConcurrentJobs();
+        this.executor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(userImportProperties.getQueueCapacity()),
+                new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+    }
+
+    public void execute(Runnable job) {
+        try {
+            executor.execute(job);
+        } catch (RejectedExecutionException e) {
+            throw new ImportCapacityExceededException();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
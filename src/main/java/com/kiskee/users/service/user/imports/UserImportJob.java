@@ -0,0 +1,82 @@
+package com.kiskee.users.service.user.imports;
+
+import com.kiskee.users.model.dto.user.imports.UserImportFormat;
+import com.kiskee.users.model.dto.user.imports.UserImportJobDto;
+import com.kiskee.users.model.dto.user.imports.UserImportStatus;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Getter
+class UserImportJob {
+
+    private final UUID id;
+    private final String fileName;
+    private final UserImportFormat format;
+    private final Path reportFile;
+    private final Instant createdAt;
+    private final AtomicLong importedRows = new AtomicLong();
+    private final AtomicLong rejectedRows = new AtomicLong();
+    private volatile UserImportStatus status = UserImportStatus.PENDING;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    UserImportJob(UUID id, String fileName, UserImportFormat format, Path reportFile, Instant createdAt) {
+        this.id = id;
+        this.fileName = fileName;
+        this.format = format;
+        this.reportFile = reportFile;
+        this.createdAt = createdAt;
+    }
+
+    void start(Instant now) {
+        startedAt = now;
+        status = UserImportStatus.RUNNING;
+    }
+
+    void complete(Instant now) {
+        finishedAt = now;
+        status = UserImportStatus.COMPLETED;
+    }
+
+    void fail(Instant now, String error) {
+        this.error = error;
+        finishedAt = now;
+        status = UserImportStatus.FAILED;
+    }
+
+    void rowImported() {
+        importedRows.incrementAndGet();
+    }
+
+    void rowRejected() {
+        rejectedRows.incrementAndGet();
+    }
+
+    boolean isFinished() {
+        return status == UserImportStatus.COMPLETED || status == UserImportStatus.FAILED;
+    }
+
+    UserImportJobDto toDto(Instant now) {
+        long imported = importedRows.get();
+        long rejected = rejectedRows.get();
+        long processed = imported + rejected;
+
+        return new UserImportJobDto(id, fileName, format, status, processed, imported, rejected,
+                rowsPerSecond(processed, now), createdAt, startedAt, finishedAt, error);
+    }
+
+    private long rowsPerSecond(long processed, Instant now) {
+        if (startedAt == null) {
+            return 0;
+        }
+        long elapsedMillis = Duration.between(startedAt, finishedAt == null ? now : finishedAt).toMillis();
+
+        return processed * 1000 / Math.max(elapsedMillis, 1);
+    }
+}
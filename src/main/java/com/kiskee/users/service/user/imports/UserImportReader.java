@@ -0,0 +1,9 @@
+package com.kiskee.users.service.user.imports;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+interface UserImportReader extends Closeable {
+
+    UserImportRow next() throws IOException;
+}
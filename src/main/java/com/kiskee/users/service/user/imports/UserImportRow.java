@@ -0,0 +1,14 @@
+package com.kiskee.users.service.user.imports;
+
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+
+record UserImportRow(long row, String email, UserCreateRequest request, String error) {
+
+    static UserImportRow parsed(long row, UserCreateRequest request) {
+        return new UserImportRow(row, request.getEmail(), request, null);
+    }
+
+    static UserImportRow malformed(long row, String email, String error) {
+        return new UserImportRow(row, email, null, error);
+    }
+}
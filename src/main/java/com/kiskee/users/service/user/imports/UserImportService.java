@@ -0,0 +1,16 @@
+package com.kiskee.users.service.user.imports;
+
+import com.kiskee.users.model.dto.ImportResponseDto;
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+
+public interface UserImportService {
+
+    ImportResponseDto submitImport(MultipartFile file);
+
+    ImportResponseDto getImport(UUID jobId);
+
+    Resource getRejectionReport(UUID jobId);
+}
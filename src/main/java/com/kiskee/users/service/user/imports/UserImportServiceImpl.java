@@ -0,0 +1,253 @@
+package com.kiskee.users.service.user.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.kiskee.users.config.properties.UserImportProperties;
+import com.kiskee.users.config.properties.UserProperties;
+import com.kiskee.users.exception.BulkConflictException;
+import com.kiskee.users.exception.DuplicateResourceException;
+import com.kiskee.users.exception.ImportInProgressException;
+import com.kiskee.users.exception.ImportJobNotFoundException;
+import com.kiskee.users.exception.RegistrationRestrictionException;
+import com.kiskee.users.model.dto.ImportResponseDto;
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.model.dto.user.bulk.UserCreateResult;
+import com.kiskee.users.model.dto.user.bulk.UserCreateStatus;
+import com.kiskee.users.model.dto.user.imports.UserImportFormat;
+import com.kiskee.users.model.dto.user.imports.UserImportRejection;
+import com.kiskee.users.service.user.UserService;
+import com.kiskee.users.util.ExceptionMessage;
+import com.kiskee.users.web.validator.UserRequestValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SimpleErrors;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@Profile("!reactive")
+public class UserImportServiceImpl implements UserImportService {
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+    private static final CsvSchema REJECTION_SCHEMA = CSV_MAPPER.schemaFor(UserImportRejection.class).withHeader();
+    private static final String UPLOAD_FILE_PREFIX = "user-import-";
+    private static final String REPORT_FILE_PREFIX = "user-import-rejections-";
+    private static final String REPORT_FILE_SUFFIX = ".csv";
+
+    private final UserService userService;
+    private final UserRequestValidator userRequestValidator;
+    private final UserImportExecutor userImportExecutor;
+    private final ObjectReader requestReader;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxLineLength;
+    private final Cache<UUID, UserImportJob> jobs;
+
+    public UserImportServiceImpl(UserService userService, UserRequestValidator userRequestValidator,
+                                 UserImportExecutor userImportExecutor, ObjectMapper objectMapper, Clock clock,
+                                 UserImportProperties userImportProperties, UserProperties userProperties) {
+        this.userService = userService;
+        this.userRequestValidator = userRequestValidator;
+        this.userImportExecutor = userImportExecutor;
+        this.requestReader = objectMapper.readerFor(UserCreateRequest.class);
+        this.clock = clock;
+        this.batchSize = Math.min(userImportProperties.getBatchSize(), userProperties.getMaxBulkSize());
+        this.maxLineLength = userImportProperties.getMaxLineLength();
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(new FinishedJobExpiry(userImportProperties.getJobRetention()))
+                .scheduler(Scheduler.systemScheduler())
+                .<UUID, UserImportJob>evictionListener((jobId, job, cause) -> deleteQuietly(job.getReportFile()))
+                .build();
+    }
+
+    @Override
+    public ImportResponseDto submitImport(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException(ExceptionMessage.EMPTY_IMPORT_FILE);
+        }
+        UserImportFormat format = UserImportFormat.resolve(file.getOriginalFilename(), file.getContentType());
+
+        Path uploadFile = null;
+        UserImportJob job = null;
+        try {
+            uploadFile = Files.createTempFile(UPLOAD_FILE_PREFIX, "." + format.name().toLowerCase(Locale.ROOT));
+            file.transferTo(uploadFile);
+            job = new UserImportJob(UUID.randomUUID(), file.getOriginalFilename(), format,
+                    Files.createTempFile(REPORT_FILE_PREFIX, REPORT_FILE_SUFFIX), clock.instant());
+
+            submit(job, uploadFile);
+
+            return new ImportResponseDto(job.toDto(clock.instant()));
+        } catch (IOException e) {
+            discard(job, uploadFile);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            discard(job, uploadFile);
+            throw e;
+        }
+    }
+
+    @Override
+    public ImportResponseDto getImport(UUID jobId) {
+        return new ImportResponseDto(findJob(jobId).toDto(clock.instant()));
+    }
+
+    @Override
+    public Resource getRejectionReport(UUID jobId) {
+        UserImportJob job = findJob(jobId);
+        if (!job.isFinished()) {
+            throw new ImportInProgressException(jobId);
+        }
+
+        return new FileSystemResource(job.getReportFile());
+    }
+
+    private UserImportJob findJob(UUID jobId) {
+        UserImportJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new ImportJobNotFoundException(jobId);
+        }
+        return job;
+    }
+
+    private void submit(UserImportJob job, Path uploadFile) {
+        jobs.put(job.getId(), job);
+        userImportExecutor.execute(() -> runImport(job, uploadFile));
+    }
+
+    private void discard(UserImportJob job, Path uploadFile) {
+        deleteQuietly(uploadFile);
+        if (job != null) {
+            jobs.invalidate(job.getId());
+            deleteQuietly(job.getReportFile());
+        }
+    }
+
+    private void runImport(UserImportJob job, Path uploadFile) {
+        job.start(clock.instant());
+        try (UserImportReader reader = openReader(job.getFormat(), uploadFile);
+             SequenceWriter rejections = CSV_MAPPER.writer(REJECTION_SCHEMA)
+                     .writeValues(Files.newBufferedWriter(job.getReportFile(), StandardCharsets.UTF_8))) {
+            List<UserImportRow> batch = new ArrayList<>(batchSize);
+            UserImportRow row;
+            while ((row = reader.next()) != null) {
+                String error = row.error() != null ? row.error() : validate(row.request());
+                if (error != null) {
+                    reject(job, rejections, row, error);
+                    continue;
+                }
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    importBatch(job, rejections, batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                importBatch(job, rejections, batch);
+            }
+            job.complete(clock.instant());
+        } catch (Exception e) {
+            log.warn("Import job [{}] of [{}] failed", job.getId(), job.getFileName(), e);
+            job.fail(clock.instant(), e.getMessage());
+        } finally {
+            deleteQuietly(uploadFile);
+            jobs.put(job.getId(), job);
+        }
+    }
+
+    private UserImportReader openReader(UserImportFormat format, Path uploadFile) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvUserImportReader(Files.newBufferedReader(uploadFile, StandardCharsets.UTF_8));
+            case NDJSON -> new NdjsonUserImportReader(Files.newBufferedReader(uploadFile, StandardCharsets.UTF_8),
+                    requestReader, maxLineLength);
+        };
+    }
+
+    private String validate(UserCreateRequest request) {
+        Errors errors = new SimpleErrors(request);
+        userRequestValidator.validate(request, errors);
+        if (!errors.hasErrors()) {
+            return null;
+        }
+
+        return errors.getFieldErrors().stream()
+                .map(fieldError -> fieldError.getField() + ": " + fieldError.getDefaultMessage())
+                .collect(Collectors.joining("; "));
+    }
+
+    private void importBatch(UserImportJob job, SequenceWriter rejections, List<UserImportRow> batch)
+            throws IOException {
+        List<UserCreateResult> results;
+        try {
+            results = userService.createUsers(batch.stream().map(UserImportRow::request).toList()).getData();
+        } catch (BulkConflictException e) {
+            importRowByRow(job, rejections, batch);
+            return;
+        }
+
+        for (UserCreateResult result : results) {
+            if (result.getStatus() == UserCreateStatus.CREATED) {
+                job.rowImported();
+            } else {
+                reject(job, rejections, batch.get(result.getIndex()), toReason(result));
+            }
+        }
+    }
+
+    private void importRowByRow(UserImportJob job, SequenceWriter rejections, List<UserImportRow> batch)
+            throws IOException {
+        for (UserImportRow row : batch) {
+            try {
+                userService.createUser(row.request());
+                job.rowImported();
+            } catch (DuplicateResourceException | RegistrationRestrictionException e) {
+                reject(job, rejections, row, e.getMessage());
+            }
+        }
+    }
+
+    private String toReason(UserCreateResult result) {
+        return result.getStatus() == UserCreateStatus.DUPLICATE
+                ? String.format(ExceptionMessage.USER_ALREADY_EXISTS, result.getEmail())
+                : ExceptionMessage.USER_REGISTRATION_RESTRICTION;
+    }
+
+    private void reject(UserImportJob job, SequenceWriter rejections, UserImportRow row, String reason)
+            throws IOException {
+        rejections.write(new UserImportRejection(row.row(), row.email(), reason));
+        job.rowRejected();
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file [{}]", file, e);
+        }
+    }
+}
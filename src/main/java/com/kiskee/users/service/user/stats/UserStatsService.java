@@ -0,0 +1,11 @@
+package com.kiskee.users.service.user.stats;
+
+import com.kiskee.users.model.dto.StatsResponseDto;
+import com.kiskee.users.model.dto.user.stats.UserStatsGrouping;
+
+import java.time.LocalDate;
+
+public interface UserStatsService {
+
+    StatsResponseDto countUsers(LocalDate from, LocalDate to, UserStatsGrouping groupBy, Integer ageBucketSize);
+}
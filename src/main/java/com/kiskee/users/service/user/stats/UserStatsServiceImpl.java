@@ -0,0 +1,120 @@
+package com.kiskee.users.service.user.stats;
+
+import com.kiskee.users.config.properties.UserStatsProperties;
+import com.kiskee.users.model.dto.StatsResponseDto;
+import com.kiskee.users.model.dto.user.stats.BirthMonthCount;
+import com.kiskee.users.model.dto.user.stats.UserCountBucket;
+import com.kiskee.users.model.dto.user.stats.UserStatsGrouping;
+import com.kiskee.users.repository.UserCountSource;
+import com.kiskee.users.repository.UserRepository;
+import com.kiskee.users.service.user.UserValidator;
+import io.micrometer.core.annotation.Timed;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Profile("!reactive")
+@Timed("users.stats")
+@AllArgsConstructor
+public class UserStatsServiceImpl implements UserStatsService {
+
+    private final UserRepository userRepository;
+    private final UserValidator userValidator;
+    private final UserStatsProperties userStatsProperties;
+    private final Clock clock;
+
+    @Override
+    @Transactional(readOnly = true)
+    public StatsResponseDto countUsers(LocalDate from, LocalDate to, UserStatsGrouping groupBy,
+                                       Integer ageBucketSize) {
+        userValidator.validateBirthDateRange(from, to);
+
+        List<UserCountBucket> buckets = switch (groupBy) {
+            case YEAR -> countByYear(from, to);
+            case MONTH -> countByMonth(from, to);
+            case AGE -> countByAge(from, to, resolveAgeBucketSize(ageBucketSize));
+        };
+        long total = buckets.stream()
+                .mapToLong(UserCountBucket::getCount)
+                .sum();
+
+        return new StatsResponseDto(groupBy, total, buckets);
+    }
+
+    private List<UserCountBucket> countByYear(LocalDate from, LocalDate to) {
+        Map<Integer, Long> counts = new LinkedHashMap<>();
+        for (BirthMonthCount monthCount : userRepository.countByBirthMonth(from, to, countSource())) {
+            counts.merge(monthCount.year(), monthCount.count(), Long::sum);
+        }
+
+        return counts.entrySet().stream()
+                .map(entry -> new UserCountBucket(String.valueOf(entry.getKey()), entry.getValue()))
+                .toList();
+    }
+
+    private List<UserCountBucket> countByMonth(LocalDate from, LocalDate to) {
+        return userRepository.countByBirthMonth(from, to, countSource()).stream()
+                .map(monthCount -> new UserCountBucket(YearMonth.of(monthCount.year(), monthCount.month()).toString(),
+                        monthCount.count()))
+                .toList();
+    }
+
+    private List<UserCountBucket> countByAge(LocalDate from, LocalDate to, int bucketSize) {
+        LocalDate today = LocalDate.now(clock);
+        int youngestBucket = ageAt(to, today) / bucketSize;
+        int oldestBucket = ageAt(from, today) / bucketSize;
+        userValidator.validateAgeBucketCount(oldestBucket - youngestBucket + 1, userStatsProperties.getMaxAgeBuckets());
+
+        List<LocalDate> boundaries = new ArrayList<>();
+        boundaries.add(from);
+        for (int bucket = oldestBucket - 1; bucket >= youngestBucket; bucket--) {
+            boundaries.add(today.minusYears((long) (bucket + 1) * bucketSize).plusDays(1));
+        }
+        boundaries.add(to.plusDays(1));
+
+        long[] counts = userRepository.countByBirthDateRanges(boundaries, countSource());
+        List<UserCountBucket> buckets = new ArrayList<>();
+        for (int index = counts.length - 1; index >= 0; index--) {
+            if (counts[index] > 0) {
+                buckets.add(new UserCountBucket(ageLabel(oldestBucket - index, bucketSize), counts[index]));
+            }
+        }
+        return buckets;
+    }
+
+    private int ageAt(LocalDate birthDate, LocalDate today) {
+        return Math.max(0, Period.between(birthDate, today).getYears());
+    }
+
+    private String ageLabel(int bucket, int bucketSize) {
+        int youngestAge = bucket * bucketSize;
+
+        return bucketSize == 1 ? String.valueOf(youngestAge) : youngestAge + "-" + (youngestAge + bucketSize - 1);
+    }
+
+    private UserCountSource countSource() {
+        return Boolean.TRUE.equals(userStatsProperties.getUseSummaryTable())
+                ? UserCountSource.SUMMARY
+                : UserCountSource.USERS;
+    }
+
+    private int resolveAgeBucketSize(Integer ageBucketSize) {
+        if (ageBucketSize == null) {
+            return userStatsProperties.getDefaultAgeBucketSize();
+        }
+        userValidator.validateAgeBucketSize(ageBucketSize);
+
+        return ageBucketSize;
+    }
+}
@@ -7,7 +7,31 @@ public class ExceptionMessage {
 
     public final String USER_NOT_FOUND = "User %s not found";
     public final String USER_ALREADY_EXISTS = "User with email %s already exists";
+    public final String BULK_CONFLICT = "Some emails of the bulk were registered concurrently, retry the request";
+    public final String USER_VERSION_MISMATCH = "User %s has been modified, its current version does not match If-Match";
     public final String USER_REGISTRATION_RESTRICTION = "User is not old enough to register";
     public final String INVALID_DATE_RANGE = "Invalid date range. Start date must be before or equal to end date";
+    public final String INVALID_PAGE_CURSOR = "Invalid page cursor";
+    public final String INVALID_PAGE_SIZE = "Invalid page size. Page size must be greater than zero";
+    public final String INVALID_AGE_BUCKET_SIZE = "Invalid age bucket size. Age bucket size must be greater than zero";
+    public final String TOO_MANY_AGE_BUCKETS = "Too many age buckets. Date range and age bucket size must produce at most %d buckets";
+    public final String INVALID_BULK_SIZE = "Invalid bulk size. Bulk must contain from 1 to %d users";
+    public final String NULL_IDS = "Invalid ids. Ids must not be null";
+    public final String INVALID_MULTI_GET_SIZE = "Invalid ids size. Request must contain from 1 to %d ids";
+    public final String INVALID_SEARCH_QUERY = "Invalid search query. Query must contain from %d to %d characters";
+    public final String INVALID_PHONE_NUMBER = "Invalid phone number format. Only numbers and '+' are allowed";
+    public final String INVALID_EMAIL = "must be a well-formed email address";
+    public final String MUST_NOT_BE_NULL = "must not be null";
+    public final String MUST_NOT_BE_BLANK = "must not be blank";
+    public final String MUST_BE_PAST_DATE = "must be a past date";
+    public final String INVALID_DATE_FORMAT = "must be a date in yyyy-MM-dd format";
+    public final String EMPTY_IMPORT_FILE = "Import file must not be empty";
+    public final String UNSUPPORTED_IMPORT_FORMAT = "Unsupported import format. Upload a .csv or .ndjson file";
+    public final String MISSING_IMPORT_COLUMNS = "Missing required CSV columns: %s";
+    public final String MALFORMED_IMPORT_ROW = "Malformed row: %s";
+    public final String IMPORT_ROW_TOO_LONG = "Row exceeds %d characters";
+    public final String IMPORT_JOB_NOT_FOUND = "Import job %s not found";
+    public final String IMPORT_IN_PROGRESS = "Import job %s is still in progress";
+    public final String IMPORT_CAPACITY_EXCEEDED = "Too many import jobs in progress, try again later";
 
 }
@@ -0,0 +1,49 @@
+package com.kiskee.users.util;
+
+import com.kiskee.users.exception.PreconditionFailedException;
+import com.kiskee.users.model.dto.user.UserDto;
+import lombok.experimental.UtilityClass;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+@UtilityClass
+public class UserETag {
+
+    private final String ANY = "*";
+    private final char QUOTE = '"';
+    private final String ENTITY_TAG_SEPARATOR = ",";
+
+    public String of(UserDto user) {
+        return user.getVersion() == null ? null : QUOTE + user.getVersion().toString() + QUOTE;
+    }
+
+    public Set<Long> parseIfMatch(String ifMatch, UUID userId) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        for (String etag : ifMatch.split(ENTITY_TAG_SEPARATOR)) {
+            Long version = parseVersion(etag.trim());
+            if (version != null) {
+                versions.add(version);
+            }
+        }
+        if (versions.isEmpty()) {
+            throw new PreconditionFailedException(userId);
+        }
+        return versions;
+    }
+
+    private Long parseVersion(String etag) {
+        if (etag.length() < 3 || etag.charAt(0) != QUOTE || etag.charAt(etag.length() - 1) != QUOTE) {
+            return null;
+        }
+        try {
+            return Long.parseLong(etag, 1, etag.length() - 1, 10);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.kiskee.users.web.advice;
 
+import com.kiskee.users.exception.BulkConflictException;
 import com.kiskee.users.exception.DuplicateResourceException;
+import com.kiskee.users.exception.ImportCapacityExceededException;
+import com.kiskee.users.exception.ImportInProgressException;
+import com.kiskee.users.exception.PreconditionFailedException;
 import com.kiskee.users.exception.RegistrationRestrictionException;
 import com.kiskee.users.exception.ResourceNotFoundException;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +15,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import java.time.Instant;
 import java.util.List;
@@ -25,15 +30,12 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException exception) {
-        BindingResult result = exception.getBindingResult();
-
-        List<FieldError> fieldErrors = result.getFieldErrors();
-
-        Map<String, String> errors = fieldErrors.stream()
-                .filter(fieldError -> fieldError.getDefaultMessage() != null)
-                .collect(Collectors.toMap(FieldError::getField, FieldError::getDefaultMessage));
+        return handleBindingResult(exception.getBindingResult());
+    }
 
-        return buildErrorResponse(HttpStatus.BAD_REQUEST, errors);
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleReactiveValidationExceptions(WebExchangeBindException exception) {
+        return handleBindingResult(exception.getBindingResult());
     }
 
     @ExceptionHandler({RegistrationRestrictionException.class, IllegalArgumentException.class})
@@ -41,8 +43,9 @@ public class GlobalExceptionHandler {
         return handleCustomException(exception, HttpStatus.BAD_REQUEST);
     }
 
-    @ExceptionHandler(DuplicateResourceException.class)
-    public ResponseEntity<ErrorResponse> handleDuplicateResourceException(Exception exception) {
+    @ExceptionHandler({DuplicateResourceException.class, BulkConflictException.class,
+            ImportInProgressException.class})
+    public ResponseEntity<ErrorResponse> handleConflictException(Exception exception) {
         return handleCustomException(exception, HttpStatus.CONFLICT);
     }
 
@@ -51,6 +54,26 @@ public class GlobalExceptionHandler {
         return handleCustomException(exception, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(Exception exception) {
+        return handleCustomException(exception, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(ImportCapacityExceededException.class)
+    public ResponseEntity<ErrorResponse> handleImportCapacityExceededException(Exception exception) {
+        return handleCustomException(exception, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    private ResponseEntity<ErrorResponse> handleBindingResult(BindingResult result) {
+        List<FieldError> fieldErrors = result.getFieldErrors();
+
+        Map<String, String> errors = fieldErrors.stream()
+                .filter(fieldError -> fieldError.getDefaultMessage() != null)
+                .collect(Collectors.toMap(FieldError::getField, FieldError::getDefaultMessage));
+
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, errors);
+    }
+
     private ResponseEntity<ErrorResponse> handleCustomException(Throwable exception, HttpStatus status) {
         String errorMessage = exception.getMessage();
 
@@ -0,0 +1,95 @@
+package com.kiskee.users.web.controller;
+
+import com.kiskee.users.model.dto.BulkResponseDto;
+import com.kiskee.users.model.dto.DeleteResponseDto;
+import com.kiskee.users.model.dto.ResponseDto;
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.model.dto.user.UserDto;
+import com.kiskee.users.model.dto.user.UserPartialUpdateRequestDto;
+import com.kiskee.users.model.dto.user.UserUpdateRequestDto;
+import com.kiskee.users.service.user.ReactiveUserService;
+import com.kiskee.users.web.validator.UserRequestValidator;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@Profile("reactive")
+@AllArgsConstructor
+@RequestMapping("/users")
+public class ReactiveUserController {
+
+    private final ReactiveUserService userService;
+    private final UserRequestValidator userRequestValidator;
+
+    @InitBinder
+    public void initBinder(WebDataBinder binder) {
+        userRequestValidator.applyTo(binder);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ResponseDto> createUser(@RequestBody @Valid UserCreateRequest registrationRequest) {
+        return userService.createUser(registrationRequest);
+    }
+
+    @PostMapping("/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<BulkResponseDto> createUsers(@RequestBody @Valid List<UserCreateRequest> registrationRequests) {
+        return userService.createUsers(registrationRequests);
+    }
+
+    @GetMapping("/{userId}")
+    public Mono<ResponseDto> getUser(@PathVariable UUID userId) {
+        return userService.getUser(userId);
+    }
+
+    @PutMapping("/{userId}")
+    public Mono<ResponseDto> updateUser(@PathVariable UUID userId,
+                                        @RequestBody @Valid UserUpdateRequestDto updateRequest) {
+        return userService.updateUser(userId, updateRequest);
+    }
+
+    @PatchMapping("/{userId}")
+    public Mono<ResponseDto> partialUpdateUserPatch(@PathVariable UUID userId,
+                                                    @RequestBody @Valid UserPartialUpdateRequestDto updateRequest) {
+        return userService.updateUser(userId, updateRequest);
+    }
+
+    @DeleteMapping("/{userId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteUser(@PathVariable UUID userId) {
+        return userService.deleteUser(userId);
+    }
+
+    @PostMapping("/bulk-delete")
+    public Mono<DeleteResponseDto> deleteUsers(@RequestBody List<UUID> userIds) {
+        return userService.deleteUsers(userIds);
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<UserDto> findUsersByBirthDateRange(@RequestParam LocalDate from, @RequestParam LocalDate to) {
+        return userService.findUsersByBirthDateRange(from, to);
+    }
+}
@@ -1,35 +1,62 @@
 package com.kiskee.users.web.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiskee.users.model.dto.BulkResponseDto;
+import com.kiskee.users.model.dto.DeleteResponseDto;
+import com.kiskee.users.model.dto.MultiGetResponseDto;
 import com.kiskee.users.model.dto.MultipleResponseDto;
 import com.kiskee.users.model.dto.ResponseDto;
 import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.model.dto.user.UserDto;
 import com.kiskee.users.model.dto.user.UserPartialUpdateRequestDto;
 import com.kiskee.users.model.dto.user.UserUpdateRequestDto;
 import com.kiskee.users.service.user.UserService;
+import com.kiskee.users.util.UserETag;
+import com.kiskee.users.web.validator.UserRequestValidator;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
+@Profile("!reactive")
 @AllArgsConstructor
 @RequestMapping("/users")
 public class UserController {
 
     private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final UserRequestValidator userRequestValidator;
+
+    @InitBinder
+    public void initBinder(WebDataBinder binder) {
+        userRequestValidator.applyTo(binder);
+    }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -37,30 +64,91 @@ public class UserController {
         return userService.createUser(registrationRequest);
     }
 
+    @PostMapping("/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public BulkResponseDto createUsers(@RequestBody @Valid List<UserCreateRequest> registrationRequests) {
+        return userService.createUsers(registrationRequests);
+    }
+
     @GetMapping("/{userId}")
-    public ResponseDto getUser(@PathVariable UUID userId) {
-        return userService.getUser(userId);
+    public ResponseEntity<ResponseDto> getUser(@PathVariable UUID userId) {
+        return withETag(userService.getUser(userId));
+    }
+
+    @PostMapping("/bulk-get")
+    public MultiGetResponseDto getUsers(@RequestBody List<UUID> userIds) {
+        return userService.getUsers(userIds);
     }
 
     @PutMapping("/{userId}")
-    public ResponseDto updateUser(@PathVariable UUID userId, @RequestBody @Valid UserUpdateRequestDto updateRequest) {
-        return userService.updateUser(userId, updateRequest);
+    public ResponseEntity<ResponseDto> updateUser(
+            @PathVariable UUID userId,
+            @RequestBody @Valid UserUpdateRequestDto updateRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return withETag(userService.updateUser(userId, updateRequest, UserETag.parseIfMatch(ifMatch, userId)));
     }
 
     @PatchMapping("/{userId}")
-    public ResponseDto partialUpdateUserPatch(@PathVariable UUID userId,
-                                              @RequestBody @Valid UserPartialUpdateRequestDto updateRequest) {
-        return userService.updateUser(userId, updateRequest);
+    public ResponseEntity<ResponseDto> partialUpdateUserPatch(
+            @PathVariable UUID userId,
+            @RequestBody @Valid UserPartialUpdateRequestDto updateRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return withETag(userService.updateUser(userId, updateRequest, UserETag.parseIfMatch(ifMatch, userId)));
     }
 
     @DeleteMapping("/{userId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void deleteUser(@PathVariable UUID userId) {
-        userService.deleteUser(userId);
+    public void deleteUser(@PathVariable UUID userId,
+                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        userService.deleteUser(userId, UserETag.parseIfMatch(ifMatch, userId));
+    }
+
+    @PostMapping("/bulk-delete")
+    public DeleteResponseDto deleteUsers(@RequestBody List<UUID> userIds) {
+        return userService.deleteUsers(userIds);
     }
 
     @GetMapping
-    public MultipleResponseDto findUsersByBirthDateRange(@RequestParam LocalDate from, @RequestParam LocalDate to) {
-        return userService.findUsersByBirthDateRange(from, to);
+    public MultipleResponseDto findUsersByBirthDateRange(@RequestParam LocalDate from, @RequestParam LocalDate to,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer size) {
+        return userService.findUsersByBirthDateRange(from, to, cursor, size);
+    }
+
+    @GetMapping("/search")
+    public MultipleResponseDto searchUsers(@RequestParam("q") String query,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam(required = false) Integer size) {
+        return userService.searchUsers(query, cursor, size);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsersByBirthDateRange(@RequestParam LocalDate from,
+                                                                             @RequestParam LocalDate to) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                userService.exportUsersByBirthDateRange(from, to, user -> writeLine(generator, user));
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private ResponseEntity<ResponseDto> withETag(ResponseDto response) {
+        return ResponseEntity.ok()
+                .eTag(UserETag.of(response.getData()))
+                .body(response);
+    }
+
+    private void writeLine(JsonGenerator generator, UserDto user) {
+        try {
+            generator.writeObject(user);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
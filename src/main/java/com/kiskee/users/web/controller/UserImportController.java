@@ -0,0 +1,56 @@
+package com.kiskee.users.web.controller;
+
+import com.kiskee.users.model.dto.ImportResponseDto;
+import com.kiskee.users.service.user.imports.UserImportService;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+
+@RestController
+@Profile("!reactive")
+@AllArgsConstructor
+@RequestMapping("/users/imports")
+public class UserImportController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final UserImportService userImportService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ImportResponseDto importUsers(@RequestParam MultipartFile file) {
+        return userImportService.submitImport(file);
+    }
+
+    @GetMapping("/{jobId}")
+    public ImportResponseDto getImport(@PathVariable UUID jobId) {
+        return userImportService.getImport(jobId);
+    }
+
+    @GetMapping(value = "/{jobId}/rejections", produces = TEXT_CSV_VALUE)
+    public ResponseEntity<Resource> getRejectionReport(@PathVariable UUID jobId) {
+        Resource report = userImportService.getRejectionReport(jobId);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("rejections-" + jobId + ".csv")
+                        .build()
+                        .toString())
+                .body(report);
+    }
+}
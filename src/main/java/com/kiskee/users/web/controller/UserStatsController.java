@@ -0,0 +1,29 @@
+package com.kiskee.users.web.controller;
+
+import com.kiskee.users.model.dto.StatsResponseDto;
+import com.kiskee.users.model.dto.user.stats.UserStatsGrouping;
+import com.kiskee.users.service.user.stats.UserStatsService;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@Profile("!reactive")
+@AllArgsConstructor
+@RequestMapping("/users/stats")
+public class UserStatsController {
+
+    private final UserStatsService userStatsService;
+
+    @GetMapping
+    public StatsResponseDto countUsers(@RequestParam LocalDate from, @RequestParam LocalDate to,
+                                       @RequestParam(defaultValue = "YEAR") UserStatsGrouping groupBy,
+                                       @RequestParam(required = false) Integer ageBucketSize) {
+        return userStatsService.countUsers(from, to, groupBy, ageBucketSize);
+    }
+}
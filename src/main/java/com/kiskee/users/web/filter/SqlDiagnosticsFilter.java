@@ -0,0 +1,44 @@
+package com.kiskee.users.web.filter;
+
+import com.kiskee.users.config.datasource.StatementRecorder;
+import com.kiskee.users.config.properties.SqlDiagnosticsProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@AllArgsConstructor
+public class SqlDiagnosticsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_ATTRIBUTE = SqlDiagnosticsFilter.class.getName() + ".statements";
+
+    private final SqlDiagnosticsProperties sqlDiagnosticsProperties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startedAt = System.nanoTime();
+        StatementRecorder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            List<String> statements = StatementRecorder.stop();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+            request.setAttribute(STATEMENTS_ATTRIBUTE, statements);
+
+            if (statements.size() > sqlDiagnosticsProperties.getStatementThreshold()
+                    || elapsed.compareTo(sqlDiagnosticsProperties.getTimeThreshold()) > 0) {
+                log.warn("{} {} issued {} SQL statements in {} ms: {}", request.getMethod(), request.getRequestURI(),
+                        statements.size(), elapsed.toMillis(), statements);
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.kiskee.users.web.validator;
+
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.model.dto.user.UserPartialUpdateRequestDto;
+import com.kiskee.users.model.dto.user.UserUpdateRequestDto;
+import com.kiskee.users.util.ExceptionMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.SimpleErrors;
+import org.springframework.validation.Validator;
+import org.springframework.web.bind.WebDataBinder;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class UserRequestValidator implements Validator {
+
+    private static final String EMAIL = "email";
+    private static final String FIRST_NAME = "firstName";
+    private static final String LAST_NAME = "lastName";
+    private static final String BIRTH_DATE = "birthDate";
+    private static final String ADDRESS = "address";
+    private static final String PHONE_NUMBER = "phoneNumber";
+
+    private static final String NOT_NULL_CODE = "NotNull";
+    private static final String NOT_BLANK_CODE = "NotBlank";
+    private static final String EMAIL_CODE = "Email";
+    private static final String PAST_CODE = "Past";
+    private static final String PATTERN_CODE = "Pattern";
+
+    private static final int MIN_PHONE_DIGITS = 10;
+    private static final int MAX_PHONE_DIGITS = 15;
+    private static final String ATOM = "[A-Za-z0-9!#$%&'*+/=?^_`{|}~-]+";
+    private static final String DOMAIN_LABEL = "[A-Za-z0-9](?:[A-Za-z0-9-]{0,61}[A-Za-z0-9])?";
+    private static final Pattern SIMPLE_EMAIL = Pattern.compile("(?=[^@]{1,64}@)" + ATOM + "(?:\\." + ATOM + ")*"
+            + "@(?=.{1,255}\\z)" + DOMAIN_LABEL + "(?:\\." + DOMAIN_LABEL + ")*");
+
+    private final Clock clock;
+    private final jakarta.validation.Validator beanValidator;
+    private final Validator createRequestListValidator = Validator.forInstanceOf(List.class, this::validateAll);
+
+    public void applyTo(WebDataBinder binder) {
+        Object target = binder.getTarget();
+        if (target instanceof List<?> requests && requests.stream().allMatch(UserCreateRequest.class::isInstance)) {
+            binder.replaceValidators(createRequestListValidator);
+        } else if (target != null && supports(target.getClass())) {
+            binder.replaceValidators(this);
+        }
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return UserCreateRequest.class.isAssignableFrom(clazz)
+                || UserUpdateRequestDto.class.isAssignableFrom(clazz)
+                || UserPartialUpdateRequestDto.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        switch (target) {
+            case UserCreateRequest request -> validateCreateRequest(request, errors);
+            case UserUpdateRequestDto request -> validateUpdateRequest(request, errors);
+            case UserPartialUpdateRequestDto request -> validatePartialUpdateRequest(request, errors);
+            default -> {
+            }
+        }
+    }
+
+    private void validateCreateRequest(UserCreateRequest request, Errors errors) {
+        validateEmail(request.getEmail(), true, errors);
+        validateNotBlank(FIRST_NAME, request.getFirstName(), errors);
+        validateNotBlank(LAST_NAME, request.getLastName(), errors);
+        validateBirthDate(request.getBirthDate(), true, errors);
+        validatePhoneNumber(request.getPhoneNumber(), false, errors);
+    }
+
+    private void validateUpdateRequest(UserUpdateRequestDto request, Errors errors) {
+        validateEmail(request.getEmail(), true, errors);
+        validateNotBlank(FIRST_NAME, request.getFirstName(), errors);
+        validateNotBlank(LAST_NAME, request.getLastName(), errors);
+        validateBirthDate(request.getBirthDate(), true, errors);
+        validateNotBlank(ADDRESS, request.getAddress(), errors);
+        validatePhoneNumber(request.getPhoneNumber(), true, errors);
+    }
+
+    private void validatePartialUpdateRequest(UserPartialUpdateRequestDto request, Errors errors) {
+        validateEmail(request.getEmail(), false, errors);
+        validateBirthDate(request.getBirthDate(), false, errors);
+        validatePhoneNumber(request.getPhoneNumber(), false, errors);
+    }
+
+    private void validateAll(List<?> requests, Errors errors) {
+        if (!(errors instanceof BindingResult bindingResult)) {
+            return;
+        }
+        for (int index = 0; index < requests.size(); index++) {
+            Object request = requests.get(index);
+            Errors requestErrors = new SimpleErrors(request);
+            validate(request, requestErrors);
+
+            for (FieldError fieldError : requestErrors.getFieldErrors()) {
+                bindingResult.addError(new FieldError(bindingResult.getObjectName(),
+                        "[" + index + "]." + fieldError.getField(), fieldError.getRejectedValue(), false,
+                        fieldError.getCodes(), fieldError.getArguments(), fieldError.getDefaultMessage()));
+            }
+        }
+    }
+
+    private void validateEmail(String email, boolean required, Errors errors) {
+        if (email == null) {
+            rejectIfRequired(EMAIL, required, errors);
+        } else if (!isValidEmail(email)) {
+            errors.rejectValue(EMAIL, EMAIL_CODE, ExceptionMessage.INVALID_EMAIL);
+        }
+    }
+
+    private void validateNotBlank(String field, String value, Errors errors) {
+        if (value == null || isBlank(value)) {
+            errors.rejectValue(field, NOT_BLANK_CODE, ExceptionMessage.MUST_NOT_BE_BLANK);
+        }
+    }
+
+    private void validateBirthDate(LocalDate birthDate, boolean required, Errors errors) {
+        if (birthDate == null) {
+            rejectIfRequired(BIRTH_DATE, required, errors);
+        } else if (!birthDate.isBefore(LocalDate.now(clock))) {
+            errors.rejectValue(BIRTH_DATE, PAST_CODE, ExceptionMessage.MUST_BE_PAST_DATE);
+        }
+    }
+
+    private void validatePhoneNumber(String phoneNumber, boolean required, Errors errors) {
+        if (phoneNumber == null) {
+            rejectIfRequired(PHONE_NUMBER, required, errors);
+        } else if (!isValidPhoneNumber(phoneNumber)) {
+            errors.rejectValue(PHONE_NUMBER, PATTERN_CODE, ExceptionMessage.INVALID_PHONE_NUMBER);
+        }
+    }
+
+    private void rejectIfRequired(String field, boolean required, Errors errors) {
+        if (required) {
+            errors.rejectValue(field, NOT_NULL_CODE, ExceptionMessage.MUST_NOT_BE_NULL);
+        }
+    }
+
+    static boolean isValidPhoneNumber(String phoneNumber) {
+        int start = !phoneNumber.isEmpty() && phoneNumber.charAt(0) == '+' ? 1 : 0;
+        int digits = phoneNumber.length() - start;
+        if (digits < MIN_PHONE_DIGITS || digits > MAX_PHONE_DIGITS) {
+            return false;
+        }
+        for (int i = start; i < phoneNumber.length(); i++) {
+            char c = phoneNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isValidEmail(String email) {
+        return SIMPLE_EMAIL.matcher(email).matches()
+                || beanValidator.validateValue(UserCreateRequest.class, EMAIL, email).isEmpty();
+    }
+
+    private static boolean isBlank(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
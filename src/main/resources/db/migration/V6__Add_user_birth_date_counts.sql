@@ -0,0 +1,80 @@
+CREATE TABLE IF NOT EXISTS user_birth_date_counts
+(
+    birth_date DATE   NOT NULL PRIMARY KEY,
+    user_count BIGINT NOT NULL
+);
+
+LOCK TABLE users IN SHARE ROW EXCLUSIVE MODE;
+
+INSERT INTO user_birth_date_counts (birth_date, user_count)
+SELECT birth_date, count(*)
+FROM users
+GROUP BY birth_date
+ON CONFLICT (birth_date) DO UPDATE SET user_count = EXCLUDED.user_count;
+
+CREATE OR REPLACE FUNCTION count_inserted_users() RETURNS TRIGGER AS
+$$
+BEGIN
+    INSERT INTO user_birth_date_counts (birth_date, user_count)
+    SELECT birth_date, count(*)
+    FROM new_users
+    GROUP BY birth_date
+    ON CONFLICT (birth_date) DO UPDATE SET user_count = user_birth_date_counts.user_count + EXCLUDED.user_count;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION count_deleted_users() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE user_birth_date_counts counts
+    SET user_count = counts.user_count - deleted.user_count
+    FROM (SELECT birth_date, count(*) AS user_count FROM old_users GROUP BY birth_date) deleted
+    WHERE counts.birth_date = deleted.birth_date;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION count_updated_users() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE user_birth_date_counts counts
+    SET user_count = counts.user_count - moved.user_count
+    FROM (SELECT old_users.birth_date, count(*) AS user_count
+          FROM old_users
+                   JOIN new_users ON new_users.id = old_users.id
+          WHERE old_users.birth_date <> new_users.birth_date
+          GROUP BY old_users.birth_date) moved
+    WHERE counts.birth_date = moved.birth_date;
+
+    INSERT INTO user_birth_date_counts (birth_date, user_count)
+    SELECT new_users.birth_date, count(*)
+    FROM old_users
+             JOIN new_users ON new_users.id = old_users.id
+    WHERE old_users.birth_date <> new_users.birth_date
+    GROUP BY new_users.birth_date
+    ON CONFLICT (birth_date) DO UPDATE SET user_count = user_birth_date_counts.user_count + EXCLUDED.user_count;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER users_count_inserted
+    AFTER INSERT
+    ON users
+    REFERENCING NEW TABLE AS new_users
+    FOR EACH STATEMENT
+EXECUTE FUNCTION count_inserted_users();
+
+CREATE TRIGGER users_count_deleted
+    AFTER DELETE
+    ON users
+    REFERENCING OLD TABLE AS old_users
+    FOR EACH STATEMENT
+EXECUTE FUNCTION count_deleted_users();
+
+CREATE TRIGGER users_count_updated
+    AFTER UPDATE
+    ON users
+    REFERENCING OLD TABLE AS old_users NEW TABLE AS new_users
+    FOR EACH STATEMENT
+EXECUTE FUNCTION count_updated_users();
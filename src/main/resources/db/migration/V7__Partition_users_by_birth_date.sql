@@ -0,0 +1,142 @@
+LOCK TABLE users IN ACCESS EXCLUSIVE MODE;
+
+DROP TRIGGER IF EXISTS users_count_inserted ON users;
+DROP TRIGGER IF EXISTS users_count_deleted ON users;
+DROP TRIGGER IF EXISTS users_count_updated ON users;
+
+DROP INDEX IF EXISTS idx_users_birth_date_id;
+DROP INDEX IF EXISTS idx_users_first_name_trgm;
+DROP INDEX IF EXISTS idx_users_last_name_trgm;
+DROP INDEX IF EXISTS idx_users_email_trgm;
+
+ALTER TABLE users RENAME TO users_unpartitioned;
+ALTER TABLE users_unpartitioned RENAME CONSTRAINT users_pkey TO users_unpartitioned_pkey;
+
+CREATE TABLE users
+(
+    id           UUID         NOT NULL,
+    email        VARCHAR(255) NOT NULL,
+    first_name   VARCHAR(255) NOT NULL,
+    last_name    VARCHAR(255) NOT NULL,
+    birth_date   DATE         NOT NULL,
+    address      TEXT,
+    phone_number VARCHAR(50),
+    version      BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (id, birth_date)
+) PARTITION BY RANGE (birth_date);
+
+DO
+$$
+    DECLARE
+        decade INT;
+    BEGIN
+        FOR decade IN 1900..(EXTRACT(YEAR FROM current_date)::INT / 10 * 10 + 10) BY 10
+            LOOP
+                EXECUTE format('CREATE TABLE users_%s PARTITION OF users FOR VALUES FROM (%L) TO (%L)',
+                               decade, make_date(decade, 1, 1), make_date(decade + 10, 1, 1));
+            END LOOP;
+    END
+$$;
+
+CREATE TABLE users_default PARTITION OF users DEFAULT;
+
+INSERT INTO users (id, email, first_name, last_name, birth_date, address, phone_number, version)
+SELECT id, email, first_name, last_name, birth_date, address, phone_number, version
+FROM users_unpartitioned;
+
+CREATE TABLE user_emails
+(
+    user_id UUID         NOT NULL PRIMARY KEY,
+    email   VARCHAR(255) NOT NULL UNIQUE
+);
+
+INSERT INTO user_emails (user_id, email)
+SELECT id, email
+FROM users_unpartitioned;
+
+DROP TABLE users_unpartitioned;
+
+CREATE INDEX idx_users_birth_date_id ON users (birth_date, id);
+CREATE INDEX idx_users_first_name_trgm ON users USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX idx_users_last_name_trgm ON users USING gin (lower(last_name) gin_trgm_ops);
+CREATE INDEX idx_users_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
+
+CREATE OR REPLACE FUNCTION claim_user_email() RETURNS TRIGGER AS
+$$
+BEGIN
+    INSERT INTO user_emails (user_id, email) VALUES (NEW.id, NEW.email);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION change_user_email() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE user_emails SET user_id = NEW.id, email = NEW.email WHERE user_id = OLD.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION release_user_email() RETURNS TRIGGER AS
+$$
+BEGIN
+    DELETE FROM user_emails WHERE user_id = OLD.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION truncate_user_lookups() RETURNS TRIGGER AS
+$$
+BEGIN
+    TRUNCATE user_emails, user_birth_date_counts;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER users_email_inserted
+    AFTER INSERT
+    ON users
+    FOR EACH ROW
+EXECUTE FUNCTION claim_user_email();
+
+CREATE TRIGGER users_email_updated
+    AFTER UPDATE OF id, email
+    ON users
+    FOR EACH ROW
+    WHEN (OLD.id IS DISTINCT FROM NEW.id OR OLD.email IS DISTINCT FROM NEW.email)
+EXECUTE FUNCTION change_user_email();
+
+CREATE TRIGGER users_email_deleted
+    AFTER DELETE
+    ON users
+    FOR EACH ROW
+EXECUTE FUNCTION release_user_email();
+
+CREATE TRIGGER users_count_inserted
+    AFTER INSERT
+    ON users
+    REFERENCING NEW TABLE AS new_users
+    FOR EACH STATEMENT
+EXECUTE FUNCTION count_inserted_users();
+
+CREATE TRIGGER users_count_deleted
+    AFTER DELETE
+    ON users
+    REFERENCING OLD TABLE AS old_users
+    FOR EACH STATEMENT
+EXECUTE FUNCTION count_deleted_users();
+
+CREATE TRIGGER users_count_updated
+    AFTER UPDATE
+    ON users
+    REFERENCING OLD TABLE AS old_users NEW TABLE AS new_users
+    FOR EACH STATEMENT
+EXECUTE FUNCTION count_updated_users();
+
+CREATE TRIGGER users_truncated
+    AFTER TRUNCATE
+    ON users
+    FOR EACH STATEMENT
+EXECUTE FUNCTION truncate_user_lookups();
+
+ANALYZE users;
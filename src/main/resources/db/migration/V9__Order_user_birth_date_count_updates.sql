@@ -0,0 +1,47 @@
+CREATE OR REPLACE FUNCTION count_inserted_users() RETURNS TRIGGER AS
+$$
+BEGIN
+    INSERT INTO user_birth_date_counts (birth_date, user_count)
+    SELECT birth_date, count(*)
+    FROM new_users
+    GROUP BY birth_date
+    ORDER BY birth_date
+    ON CONFLICT (birth_date) DO UPDATE SET user_count = user_birth_date_counts.user_count + EXCLUDED.user_count;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION count_deleted_users() RETURNS TRIGGER AS
+$$
+BEGIN
+    INSERT INTO user_birth_date_counts (birth_date, user_count)
+    SELECT birth_date, -count(*)
+    FROM old_users
+    GROUP BY birth_date
+    ORDER BY birth_date
+    ON CONFLICT (birth_date) DO UPDATE SET user_count = user_birth_date_counts.user_count + EXCLUDED.user_count;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION count_updated_users() RETURNS TRIGGER AS
+$$
+BEGIN
+    INSERT INTO user_birth_date_counts (birth_date, user_count)
+    SELECT moved.birth_date, sum(moved.delta)
+    FROM (SELECT old_users.birth_date, -1 AS delta
+          FROM old_users
+                   JOIN new_users ON new_users.id = old_users.id
+          WHERE old_users.birth_date <> new_users.birth_date
+          UNION ALL
+          SELECT new_users.birth_date, 1
+          FROM old_users
+                   JOIN new_users ON new_users.id = old_users.id
+          WHERE old_users.birth_date <> new_users.birth_date) moved
+    GROUP BY moved.birth_date
+    HAVING sum(moved.delta) <> 0
+    ORDER BY moved.birth_date
+    ON CONFLICT (birth_date) DO UPDATE SET user_count = user_birth_date_counts.user_count + EXCLUDED.user_count;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
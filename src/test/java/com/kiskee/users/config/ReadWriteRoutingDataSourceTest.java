@@ -0,0 +1,89 @@
+package com.kiskee.users.config;
+
+import com.kiskee.users.config.datasource.ReadWriteRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReadWriteRoutingDataSourceTest {
+
+    private static final String SELECT_NODE = "SELECT name FROM node";
+
+    private EmbeddedDatabase primaryDatabase;
+    private EmbeddedDatabase replicaDatabase;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    public void setup() {
+        primaryDatabase = createDatabase("primary");
+        replicaDatabase = createDatabase("replica");
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDatabase, replicaDatabase));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        primaryDatabase.shutdown();
+        replicaDatabase.shutdown();
+    }
+
+    @Test
+    void testGetConnection_WhenReadOnlyTransaction_ThenRouteToReplica() {
+        String node = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(SELECT_NODE, String.class));
+
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    void testGetConnection_WhenWriteTransaction_ThenRouteToPrimary() {
+        String node = writeTransaction.execute(status -> jdbcTemplate.queryForObject(SELECT_NODE, String.class));
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    void testGetConnection_WhenNoTransaction_ThenRouteToPrimary() {
+        String node = jdbcTemplate.queryForObject(SELECT_NODE, String.class);
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    void testGetConnection_WhenPrimaryIsForcedInReadOnlyTransaction_ThenRouteToPrimary() {
+        String node = ReadWriteRoutingDataSource.usePrimary(() -> readOnlyTransaction.execute(
+                status -> jdbcTemplate.queryForObject(SELECT_NODE, String.class)));
+
+        assertThat(node).isEqualTo("primary");
+        assertThat(ReadWriteRoutingDataSource.isPrimaryForced()).isFalse();
+    }
+
+    private EmbeddedDatabase createDatabase(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name)
+                .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("CREATE TABLE node (name VARCHAR(16))");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+
+        return database;
+    }
+}
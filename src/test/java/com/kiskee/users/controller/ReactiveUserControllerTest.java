@@ -0,0 +1,175 @@
+package com.kiskee.users.controller;
+
+import com.kiskee.users.config.ClockConfig;
+import com.kiskee.users.exception.BulkConflictException;
+import com.kiskee.users.exception.ResourceNotFoundException;
+import com.kiskee.users.model.dto.BulkResponseDto;
+import com.kiskee.users.model.dto.DeleteResponseDto;
+import com.kiskee.users.model.dto.ResponseDto;
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.model.dto.user.UserDto;
+import com.kiskee.users.model.dto.user.bulk.UserCreateResult;
+import com.kiskee.users.model.dto.user.bulk.UserCreateStatus;
+import com.kiskee.users.service.user.ReactiveUserService;
+import com.kiskee.users.util.ExceptionMessage;
+import com.kiskee.users.web.controller.ReactiveUserController;
+import com.kiskee.users.web.validator.UserRequestValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("reactive")
+@WebFluxTest(ReactiveUserController.class)
+@Import({UserRequestValidator.class, ClockConfig.class})
+public class ReactiveUserControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+    @MockBean
+    private ReactiveUserService userService;
+
+    private static final UUID USER_ID = UUID.fromString("e85bcd9a-00ed-45d3-87c9-ac0c8ad68203");
+
+    @Test
+    void testCreateUser_WhenProvidedValidBody_ThenReturnCreatedStatus() {
+        UserCreateRequest createRequest = new UserCreateRequest("email@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), "some address", "380999999999");
+        UserDto createdUser = new UserDto(USER_ID, createRequest.getEmail(), createRequest.getFirstName(),
+                createRequest.getLastName(), createRequest.getBirthDate(), createRequest.getAddress(),
+                createRequest.getPhoneNumber(), 0L);
+        when(userService.createUser(createRequest)).thenReturn(Mono.just(new ResponseDto(createdUser)));
+
+        webTestClient.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(createRequest)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.data.id").isEqualTo(USER_ID.toString())
+                .jsonPath("$.data.email").isEqualTo(createRequest.getEmail());
+    }
+
+    @Test
+    void testCreateUser_WhenProvidedInvalidBody_ThenReturnBadRequestWithFieldErrors() {
+        UserCreateRequest createRequest = new UserCreateRequest(null, "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null);
+
+        webTestClient.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(createRequest)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.errors.email").isEqualTo("must not be null");
+
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void testCreateUsers_WhenProvidedValidBody_ThenReturnPerItemResults() {
+        UserCreateRequest createRequest = new UserCreateRequest("email@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null);
+        UserDto createdUser = new UserDto(USER_ID, createRequest.getEmail(), createRequest.getFirstName(),
+                createRequest.getLastName(), createRequest.getBirthDate(), null, null, 0L);
+        when(userService.createUsers(List.of(createRequest, createRequest))).thenReturn(Mono.just(
+                new BulkResponseDto(List.of(
+                        new UserCreateResult(0, createRequest.getEmail(), UserCreateStatus.CREATED, createdUser),
+                        new UserCreateResult(1, createRequest.getEmail(), UserCreateStatus.DUPLICATE, null)))));
+
+        webTestClient.post().uri("/users/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(createRequest, createRequest))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.data[0].status").isEqualTo("CREATED")
+                .jsonPath("$.data[0].user.id").isEqualTo(USER_ID.toString())
+                .jsonPath("$.data[1].status").isEqualTo("DUPLICATE");
+    }
+
+    @Test
+    void testCreateUsers_WhenProvidedInvalidItem_ThenReturnBadRequest() {
+        UserCreateRequest validRequest = new UserCreateRequest("email@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null);
+        UserCreateRequest invalidRequest = new UserCreateRequest(null, "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null);
+
+        webTestClient.post().uri("/users/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(validRequest, invalidRequest))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.errors['[1].email']").isEqualTo("must not be null");
+
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void testCreateUsers_WhenEmailIsRegisteredConcurrently_ThenReturnConflict() {
+        UserCreateRequest createRequest = new UserCreateRequest("email@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null);
+        when(userService.createUsers(List.of(createRequest))).thenReturn(Mono.error(new BulkConflictException()));
+
+        webTestClient.post().uri("/users/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(createRequest))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody().jsonPath("$.errors.error").isEqualTo(ExceptionMessage.BULK_CONFLICT);
+    }
+
+    @Test
+    void testDeleteUsers_WhenGivenIds_ThenReturnDeletedCount() {
+        when(userService.deleteUsers(List.of(USER_ID))).thenReturn(Mono.just(new DeleteResponseDto(1)));
+
+        webTestClient.post().uri("/users/bulk-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(USER_ID))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.deleted").isEqualTo(1);
+    }
+
+    @Test
+    void testGetUser_WhenUserDoesNotExist_ThenReturnNotFoundStatus() {
+        when(userService.getUser(USER_ID)).thenReturn(Mono.error(new ResourceNotFoundException(USER_ID)));
+
+        webTestClient.get().uri("/users/{userId}", USER_ID)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.errors.error")
+                .isEqualTo(String.format(ExceptionMessage.USER_NOT_FOUND, USER_ID));
+    }
+
+    @Test
+    void testFindUsersByBirthDateRange_WhenRequestedAsNdjson_ThenStreamUsers() {
+        LocalDate from = LocalDate.of(1990, 1, 1);
+        LocalDate to = LocalDate.of(1995, 12, 31);
+        UserDto user = new UserDto(USER_ID, "email@google.com", "John", "Doe",
+                LocalDate.of(1991, 1, 1), null, null, 0L);
+        when(userService.findUsersByBirthDateRange(from, to)).thenReturn(Flux.just(user, user));
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/users")
+                        .queryParam("from", from)
+                        .queryParam("to", to)
+                        .build())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(UserDto.class).hasSize(2);
+    }
+}
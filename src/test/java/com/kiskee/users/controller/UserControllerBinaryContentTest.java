@@ -0,0 +1,174 @@
+package com.kiskee.users.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiskee.users.config.BinaryContentConfig;
+import com.kiskee.users.config.ClockConfig;
+import com.kiskee.users.exception.ResourceNotFoundException;
+import com.kiskee.users.model.dto.MultipleResponseDto;
+import com.kiskee.users.model.dto.ResponseDto;
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.model.dto.user.UserDto;
+import com.kiskee.users.service.user.UserService;
+import com.kiskee.users.util.ExceptionMessage;
+import com.kiskee.users.web.controller.UserController;
+import com.kiskee.users.web.validator.UserRequestValidator;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(SpringExtension.class)
+@WebMvcTest(UserController.class)
+@Import({UserRequestValidator.class, BinaryContentConfig.class, ClockConfig.class})
+public class UserControllerBinaryContentTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+    private MockMvc mockMvc;
+    @MockBean
+    private UserService userService;
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    private static final UUID USER_ID = UUID.fromString("e85bcd9a-00ed-45d3-87c9-ac0c8ad68203");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.webApplicationContext).build();
+    }
+
+    @Test
+    @SneakyThrows
+    void testCreateUser_WhenBodyAndAcceptAreSmile_ThenReadAndWriteSmile() {
+        UserCreateRequest createRequest = new UserCreateRequest("email@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), "some address", "380999999999");
+        UserDto createdUser = new UserDto(USER_ID, createRequest.getEmail(), createRequest.getFirstName(),
+                createRequest.getLastName(), createRequest.getBirthDate(), createRequest.getAddress(),
+                createRequest.getPhoneNumber(), 0L);
+        when(userService.createUser(createRequest)).thenReturn(new ResponseDto(createdUser));
+
+        ObjectMapper smileMapper = smileConverter.getObjectMapper();
+        MvcResult result = mockMvc.perform(post("/users")
+                        .contentType(SMILE)
+                        .accept(SMILE)
+                        .content(smileMapper.writeValueAsBytes(createRequest)))
+                .andDo(print())
+                .andExpectAll(status().isCreated(),
+                        content().contentType(SMILE))
+                .andReturn();
+
+        JsonNode body = smileMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(smileMapper.convertValue(body.at("/data/id"), UUID.class)).isEqualTo(USER_ID);
+        assertThat(body.at("/data/email").asText()).isEqualTo(createRequest.getEmail());
+        assertThat(body.at("/data/birthDate").asText()).isEqualTo("1990-02-13");
+        assertThat(body.at("/data/phoneNumber").asText()).isEqualTo(createRequest.getPhoneNumber());
+    }
+
+    @Test
+    @SneakyThrows
+    void testFindUsersByBirthDateRange_WhenAcceptIsCbor_ThenWriteCbor() {
+        MultipleResponseDto response = new MultipleResponseDto(List.of(new UserDto(USER_ID, "email@google.com",
+                "John", "Doe", LocalDate.of(1990, 2, 13), null, null, 0L)), "cursor");
+        when(userService.findUsersByBirthDateRange(any(), any(), any(), any())).thenReturn(response);
+
+        MvcResult result = mockMvc.perform(get("/users")
+                        .param("from", "1990-01-01")
+                        .param("to", "1990-12-31")
+                        .accept(CBOR))
+                .andDo(print())
+                .andExpectAll(status().isOk(),
+                        content().contentType(CBOR))
+                .andReturn();
+
+        ObjectMapper cborMapper = cborConverter.getObjectMapper();
+        JsonNode body = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(cborMapper.convertValue(body.at("/data/0/id"), UUID.class)).isEqualTo(USER_ID);
+        assertThat(body.at("/data/0/birthDate").asText()).isEqualTo("1990-02-13");
+        assertThat(body.at("/data/0/address").isMissingNode()).isTrue();
+        assertThat(body.at("/nextCursor").asText()).isEqualTo("cursor");
+    }
+
+    @Test
+    @SneakyThrows
+    void testCreateUser_WhenCborBodyIsInvalid_ThenReturnValidationErrorsAsCbor() {
+        UserCreateRequest createRequest = new UserCreateRequest("not-an-email", "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null);
+
+        ObjectMapper cborMapper = cborConverter.getObjectMapper();
+        MvcResult result = mockMvc.perform(post("/users")
+                        .contentType(CBOR)
+                        .accept(CBOR)
+                        .content(cborMapper.writeValueAsBytes(createRequest)))
+                .andDo(print())
+                .andExpectAll(status().isBadRequest(),
+                        content().contentType(CBOR))
+                .andReturn();
+
+        JsonNode body = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.at("/errors/email").asText()).isEqualTo(ExceptionMessage.INVALID_EMAIL);
+        assertThat(body.at("/timestamp").isTextual()).isTrue();
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @SneakyThrows
+    void testGetUser_WhenUserDoesNotExistAndAcceptIsSmile_ThenReturnErrorAsSmile() {
+        when(userService.getUser(USER_ID)).thenThrow(new ResourceNotFoundException(USER_ID));
+
+        MvcResult result = mockMvc.perform(get("/users/{userId}", USER_ID)
+                        .accept(SMILE))
+                .andDo(print())
+                .andExpectAll(status().isNotFound(),
+                        content().contentType(SMILE))
+                .andReturn();
+
+        JsonNode body = smileConverter.getObjectMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.at("/errors/error").asText())
+                .isEqualTo(String.format(ExceptionMessage.USER_NOT_FOUND, USER_ID));
+    }
+
+    @Test
+    @SneakyThrows
+    void testGetUser_WhenAcceptIsAny_ThenWriteJson() {
+        when(userService.getUser(USER_ID)).thenReturn(new ResponseDto(new UserDto(USER_ID, "email@google.com",
+                "John", "Doe", LocalDate.of(1990, 2, 13), null, null, 0L)));
+
+        mockMvc.perform(get("/users/{userId}", USER_ID)
+                        .header(HttpHeaders.ACCEPT, MediaType.ALL_VALUE))
+                .andDo(print())
+                .andExpectAll(status().isOk(),
+                        content().contentType(MediaType.APPLICATION_JSON));
+    }
+}
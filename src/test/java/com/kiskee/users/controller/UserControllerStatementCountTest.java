@@ -0,0 +1,150 @@
+package com.kiskee.users.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiskee.users.config.CacheConfig;
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.model.entity.User;
+import com.kiskee.users.repository.UserRepository;
+import com.kiskee.users.web.filter.SqlDiagnosticsFilter;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@SpringBootTest(properties = {"spring.flyway.enabled=false", "users.diagnostics.sql.enabled=true"})
+public class UserControllerStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @AfterEach
+    public void cleanup() {
+        userRepository.deleteAllInBatch();
+        cacheManager.getCache(CacheConfig.USERS_CACHE).clear();
+    }
+
+    @Test
+    @SneakyThrows
+    void testCreateUser_ThenIssueSingleInsert() {
+        UserCreateRequest createRequest = new UserCreateRequest("email@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null);
+
+        List<String> statements = statementsOf(post("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest)));
+
+        assertThat(statements).hasSize(1);
+        assertThat(statements.getFirst()).startsWithIgnoringCase("insert");
+    }
+
+    @Test
+    @SneakyThrows
+    void testCreateUsers_ThenIssueOneLookupAndOneBatchedInsert() {
+        List<UserCreateRequest> createRequests = List.of(
+                new UserCreateRequest("first@google.com", "John", "Doe", LocalDate.of(1990, 2, 13), null, null),
+                new UserCreateRequest("second@google.com", "John", "Doe", LocalDate.of(1991, 2, 13), null, null),
+                new UserCreateRequest("third@google.com", "John", "Doe", LocalDate.of(1992, 2, 13), null, null));
+
+        List<String> statements = statementsOf(post("/users/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequests)));
+
+        assertThat(statements).hasSize(2);
+    }
+
+    @Test
+    void testGetUser_ThenIssueSingleSelect() {
+        User user = saveUser();
+
+        List<String> statements = statementsOf(get("/users/{userId}", user.getId()));
+
+        assertThat(statements).hasSize(1);
+        assertThat(statements.getFirst()).startsWithIgnoringCase("select");
+    }
+
+    @Test
+    @SneakyThrows
+    void testGetUsers_ThenIssueSingleSelect() {
+        User user = saveUser();
+
+        List<String> statements = statementsOf(post("/users/bulk-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(user.getId(), UUID.randomUUID()))));
+
+        assertThat(statements).hasSize(1);
+        assertThat(statements.getFirst()).containsIgnoringCase("any(");
+    }
+
+    @Test
+    void testDeleteUser_ThenIssueSingleDelete() {
+        User user = saveUser();
+
+        List<String> statements = statementsOf(delete("/users/{userId}", user.getId()));
+
+        assertThat(statements).hasSize(1);
+        assertThat(statements.getFirst()).startsWithIgnoringCase("delete");
+    }
+
+    @Test
+    @SneakyThrows
+    void testDeleteUsers_ThenIssueSingleDelete() {
+        User user = saveUser();
+
+        List<String> statements = statementsOf(post("/users/bulk-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(user.getId(), UUID.randomUUID()))));
+
+        assertThat(statements).hasSize(1);
+    }
+
+    @Test
+    void testFindUsersByBirthDateRange_ThenIssueSingleSelect() {
+        saveUser();
+
+        List<String> statements = statementsOf(get("/users")
+                .param("from", "1990-01-01")
+                .param("to", "1995-12-31"));
+
+        assertThat(statements).hasSize(1);
+    }
+
+    private User saveUser() {
+        return userRepository.save(new User(null, "email@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null, null));
+    }
+
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    private List<String> statementsOf(RequestBuilder requestBuilder) {
+        MvcResult result = mockMvc.perform(requestBuilder).andReturn();
+
+        assertThat(result.getResponse().getStatus()).isLessThan(400);
+
+        return (List<String>) result.getRequest().getAttribute(SqlDiagnosticsFilter.STATEMENTS_ATTRIBUTE);
+    }
+}
@@ -1,17 +1,28 @@
 package com.kiskee.users.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiskee.users.config.ClockConfig;
+import com.kiskee.users.exception.BulkConflictException;
 import com.kiskee.users.exception.DuplicateResourceException;
+import com.kiskee.users.exception.PreconditionFailedException;
 import com.kiskee.users.exception.ResourceNotFoundException;
+import com.kiskee.users.model.dto.BulkResponseDto;
+import com.kiskee.users.model.dto.DeleteResponseDto;
+import com.kiskee.users.model.dto.MultiGetResponseDto;
 import com.kiskee.users.model.dto.MultipleResponseDto;
 import com.kiskee.users.model.dto.ResponseDto;
 import com.kiskee.users.model.dto.user.UserCreateRequest;
 import com.kiskee.users.model.dto.user.UserDto;
+import com.kiskee.users.model.dto.user.UserPageCursor;
+import com.kiskee.users.model.dto.user.UserSearchCursor;
 import com.kiskee.users.model.dto.user.UserPartialUpdateRequestDto;
 import com.kiskee.users.model.dto.user.UserUpdateRequestDto;
+import com.kiskee.users.model.dto.user.bulk.UserCreateResult;
+import com.kiskee.users.model.dto.user.bulk.UserCreateStatus;
 import com.kiskee.users.service.user.UserService;
 import com.kiskee.users.util.ExceptionMessage;
 import com.kiskee.users.web.controller.UserController;
+import com.kiskee.users.web.validator.UserRequestValidator;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +32,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
@@ -30,24 +43,36 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(SpringExtension.class)
 @WebMvcTest(UserController.class)
+@Import({UserRequestValidator.class, ClockConfig.class})
 public class UserControllerTest {
 
     @Autowired
@@ -70,7 +95,7 @@ public class UserControllerTest {
     @MethodSource("validUserCreateRequest")
     void testCreateUser_WhenProvidedValidBody_ThenCreateNewUserAndReturnCreatedStatus(UserCreateRequest createRequest) {
         UserDto createdUser = new UserDto(USER_ID, createRequest.getEmail(), createRequest.getFirstName(), createRequest.getLastName(),
-                createRequest.getBirthDate(), createRequest.getAddress(), createRequest.getPhoneNumber());
+                createRequest.getBirthDate(), createRequest.getAddress(), createRequest.getPhoneNumber(), 0L);
         ResponseDto responseDto = new ResponseDto(createdUser);
         when(userService.createUser(createRequest)).thenReturn(responseDto);
 
@@ -114,11 +139,69 @@ public class UserControllerTest {
                         )));
     }
 
+    @Test
+    @SneakyThrows
+    void testCreateUsers_WhenProvidedValidBody_ThenReturnPerItemResults() {
+        UserCreateRequest createRequest = new UserCreateRequest("email@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), "some address", "380999999999");
+        UserCreateRequest duplicateRequest = new UserCreateRequest("email@google.com", "Jane", "Doe",
+                LocalDate.of(1991, 2, 13), null, null);
+        UserDto createdUser = new UserDto(USER_ID, createRequest.getEmail(), createRequest.getFirstName(),
+                createRequest.getLastName(), createRequest.getBirthDate(), createRequest.getAddress(),
+                createRequest.getPhoneNumber(), 0L);
+        BulkResponseDto responseDto = new BulkResponseDto(List.of(
+                new UserCreateResult(0, createRequest.getEmail(), UserCreateStatus.CREATED, createdUser),
+                new UserCreateResult(1, duplicateRequest.getEmail(), UserCreateStatus.DUPLICATE, null)));
+        when(userService.createUsers(List.of(createRequest, duplicateRequest))).thenReturn(responseDto);
+
+        MvcResult result = mockMvc.perform(post("/users/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(createRequest, duplicateRequest))))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsString()).isEqualTo(objectMapper.writeValueAsString(responseDto));
+    }
+
+    @Test
+    @SneakyThrows
+    void testCreateUsers_WhenEmailIsRegisteredConcurrently_ThenReturnConflict() {
+        UserCreateRequest createRequest = new UserCreateRequest("email@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null);
+        when(userService.createUsers(List.of(createRequest))).thenThrow(new BulkConflictException());
+
+        mockMvc.perform(post("/users/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(createRequest))))
+                .andDo(print())
+                .andExpectAll(status().isConflict(),
+                        jsonPath("$.errors.error").value(ExceptionMessage.BULK_CONFLICT));
+    }
+
+    @Test
+    @SneakyThrows
+    void testCreateUsers_WhenProvidedInvalidItem_ThenReturnBadRequest() {
+        UserCreateRequest validRequest = new UserCreateRequest("email@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null);
+        UserCreateRequest invalidRequest = new UserCreateRequest(null, "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null);
+
+        mockMvc.perform(post("/users/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(validRequest, invalidRequest))))
+                .andDo(print())
+                .andExpectAll(status().isBadRequest(),
+                        jsonPath("$.errors['[1].email']").value("must not be null"));
+
+        verifyNoInteractions(userService);
+    }
+
     @Test
     @SneakyThrows
     void testGetUser_WhenUserExists_ThenReturnUser() {
         UserDto user = new UserDto(USER_ID, "email@google.com", "John", "Doe",
-                LocalDate.of(1998, 2, 13), "some address", "380999999999");
+                LocalDate.of(1998, 2, 13), "some address", "380999999999", 0L);
         ResponseDto responseDto = new ResponseDto(user);
 
         when(userService.getUser(USER_ID)).thenReturn(responseDto);
@@ -126,12 +209,29 @@ public class UserControllerTest {
         MvcResult mvcResult = mockMvc.perform(get("/users/{userId}", USER_ID)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
-                .andExpect(status().isOk())
+                .andExpectAll(status().isOk(),
+                        header().string(HttpHeaders.ETAG, "\"0\""))
                 .andReturn();
 
         assertThat(mvcResult.getResponse().getContentAsString()).isEqualTo(objectMapper.writeValueAsString(responseDto));
     }
 
+    @Test
+    @SneakyThrows
+    void testGetUser_WhenIfNoneMatchEqualsCurrentETag_ThenReturnNotModifiedWithoutBody() {
+        UserDto user = new UserDto(USER_ID, "email@google.com", "John", "Doe",
+                LocalDate.of(1998, 2, 13), "some address", "380999999999", 5L);
+
+        when(userService.getUser(USER_ID)).thenReturn(new ResponseDto(user));
+
+        mockMvc.perform(get("/users/{userId}", USER_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"5\""))
+                .andDo(print())
+                .andExpectAll(status().isNotModified(),
+                        header().string(HttpHeaders.ETAG, "\"5\""),
+                        content().string(""));
+    }
+
     @Test
     @SneakyThrows
     void testGetUser_WhenUserDoesNotExist_ThenReturnNotFoundStatus() {
@@ -147,19 +247,96 @@ public class UserControllerTest {
                         )));
     }
 
+    @Test
+    @SneakyThrows
+    void testGetUsers_WhenProvidedIds_ThenReturnFoundUsersAndMissingIds() {
+        UUID missingId = UUID.fromString("5f0c7c83-3c9a-4f36-9d4e-0a8a3e1d2b44");
+        List<UUID> userIds = List.of(USER_ID, missingId);
+        UserDto user = new UserDto(USER_ID, "email@google.com", "John", "Doe",
+                LocalDate.of(1998, 2, 13), "some address", "380999999999", 0L);
+
+        when(userService.getUsers(userIds)).thenReturn(new MultiGetResponseDto(List.of(user), List.of(missingId)));
+
+        mockMvc.perform(post("/users/bulk-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userIds)))
+                .andDo(print())
+                .andExpectAll(status().isOk(),
+                        jsonPath("$.data[0].id").value(USER_ID.toString()),
+                        jsonPath("$.missingIds[0]").value(missingId.toString()));
+    }
+
     @Test
     @SneakyThrows
     void testUpdateUser_WhenProvidedValidBody_ThenReturnUpdatedUser() {
         UserUpdateRequestDto updateRequest = new UserUpdateRequestDto("email@google.com", "John", "Doe",
                 LocalDate.of(1998, 2, 13), "some address", "380999999999");
 
-        when(userService.updateUser(USER_ID, updateRequest)).thenReturn(mock(ResponseDto.class));
+        when(userService.updateUser(USER_ID, updateRequest, null)).thenReturn(new ResponseDto(
+                new UserDto(USER_ID, "email@google.com", "John", "Doe", LocalDate.of(1998, 2, 13),
+                        "some address", "380999999999", 1L)));
 
         mockMvc.perform(put("/users/{userId}", USER_ID)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateRequest)))
                 .andDo(print())
-                .andExpect(status().isOk());
+                .andExpectAll(status().isOk(),
+                        header().string(HttpHeaders.ETAG, "\"1\""));
+    }
+
+    @Test
+    @SneakyThrows
+    void testUpdateUser_WhenIfMatchProvided_ThenUpdateExpectedVersionAndReturnNewETag() {
+        UserUpdateRequestDto updateRequest = new UserUpdateRequestDto("email@google.com", "John", "Doe",
+                LocalDate.of(1998, 2, 13), "some address", "380999999999");
+
+        when(userService.updateUser(USER_ID, updateRequest, Set.of(3L))).thenReturn(new ResponseDto(
+                new UserDto(USER_ID, "email@google.com", "John", "Doe", LocalDate.of(1998, 2, 13),
+                        "some address", "380999999999", 4L)));
+
+        mockMvc.perform(put("/users/{userId}", USER_ID)
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andDo(print())
+                .andExpectAll(status().isOk(),
+                        header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    @SneakyThrows
+    void testUpdateUser_WhenVersionDoesNotMatch_ThenReturnPreconditionFailed() {
+        UserUpdateRequestDto updateRequest = new UserUpdateRequestDto("email@google.com", "John", "Doe",
+                LocalDate.of(1998, 2, 13), "some address", "380999999999");
+
+        when(userService.updateUser(USER_ID, updateRequest, Set.of(3L)))
+                .thenThrow(new PreconditionFailedException(USER_ID));
+
+        mockMvc.perform(put("/users/{userId}", USER_ID)
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andDo(print())
+                .andExpectAll(status().isPreconditionFailed(),
+                        jsonPath("$.errors.error").value(String.format(
+                                ExceptionMessage.USER_VERSION_MISMATCH, USER_ID
+                        )));
+    }
+
+    @Test
+    @SneakyThrows
+    void testUpdateUser_WhenIfMatchIsWeak_ThenReturnPreconditionFailed() {
+        UserUpdateRequestDto updateRequest = new UserUpdateRequestDto("email@google.com", "John", "Doe",
+                LocalDate.of(1998, 2, 13), "some address", "380999999999");
+
+        mockMvc.perform(put("/users/{userId}", USER_ID)
+                        .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andDo(print())
+                .andExpect(status().isPreconditionFailed());
+
+        verifyNoInteractions(userService);
     }
 
     @Test
@@ -168,7 +345,7 @@ public class UserControllerTest {
         UserUpdateRequestDto updateRequest = new UserUpdateRequestDto("email@google.com", "John", "Doe",
                 LocalDate.of(1998, 2, 13), "some address", "380999999999");
 
-        when(userService.updateUser(USER_ID, updateRequest)).thenThrow(new ResourceNotFoundException(USER_ID));
+        when(userService.updateUser(USER_ID, updateRequest, null)).thenThrow(new ResourceNotFoundException(USER_ID));
 
         mockMvc.perform(put("/users/{userId}", USER_ID)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -197,7 +374,9 @@ public class UserControllerTest {
         UserPartialUpdateRequestDto partialUpdateRequest = new UserPartialUpdateRequestDto("newEmail@google.com",
                 null, null, null, null, null);
 
-        when(userService.updateUser(USER_ID, partialUpdateRequest)).thenReturn(mock(ResponseDto.class));
+        when(userService.updateUser(USER_ID, partialUpdateRequest, null)).thenReturn(new ResponseDto(
+                new UserDto(USER_ID, "newEmail@google.com", "John", "Doe", LocalDate.of(1998, 2, 13),
+                        null, null, 1L)));
 
         mockMvc.perform(patch("/users/{userId}", USER_ID)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -212,7 +391,8 @@ public class UserControllerTest {
         UserPartialUpdateRequestDto partialUpdateRequest = new UserPartialUpdateRequestDto("newEmail@google.com",
                 null, null, null, null, null);
 
-        when(userService.updateUser(USER_ID, partialUpdateRequest)).thenThrow(new ResourceNotFoundException(USER_ID));
+        when(userService.updateUser(USER_ID, partialUpdateRequest, null))
+                .thenThrow(new ResourceNotFoundException(USER_ID));
 
         mockMvc.perform(patch("/users/{userId}", USER_ID)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -233,10 +413,32 @@ public class UserControllerTest {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    @SneakyThrows
+    void testDeleteUser_WhenIfMatchProvided_ThenDeleteExpectedVersion() {
+        mockMvc.perform(delete("/users/{userId}", USER_ID)
+                        .header(HttpHeaders.IF_MATCH, "\"2\""))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        verify(userService).deleteUser(USER_ID, Set.of(2L));
+    }
+
+    @Test
+    @SneakyThrows
+    void testDeleteUser_WhenIfMatchListsSeveralETags_ThenDeleteAnyOfTheirVersions() {
+        mockMvc.perform(delete("/users/{userId}", USER_ID)
+                        .header(HttpHeaders.IF_MATCH, "\"3\", W/\"5\", \"4\""))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        verify(userService).deleteUser(USER_ID, Set.of(3L, 4L));
+    }
+
     @Test
     @SneakyThrows
     void testDeleteUser_WhenUserDoesNotExist_ThenReturnNotFoundStatus() {
-        doThrow(new ResourceNotFoundException(USER_ID)).when(userService).deleteUser(USER_ID);
+        doThrow(new ResourceNotFoundException(USER_ID)).when(userService).deleteUser(USER_ID, null);
 
         mockMvc.perform(delete("/users/{userId}", USER_ID)
                         .contentType(MediaType.APPLICATION_JSON))
@@ -247,6 +449,21 @@ public class UserControllerTest {
                         )));
     }
 
+    @Test
+    @SneakyThrows
+    void testDeleteUsers_WhenProvidedIds_ThenReturnDeletedCount() {
+        List<UUID> userIds = List.of(USER_ID);
+
+        when(userService.deleteUsers(userIds)).thenReturn(new DeleteResponseDto(1));
+
+        mockMvc.perform(post("/users/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userIds)))
+                .andDo(print())
+                .andExpectAll(status().isOk(),
+                        jsonPath("$.deleted").value(1));
+    }
+
     @Test
     @SneakyThrows
     void testFindUsersByBirthDateRange_WhenProvidedValidRange_ThenReturnUsers() {
@@ -262,7 +479,7 @@ public class UserControllerTest {
         List<UserDto> users = List.of(user1, user2, user3);
 
         MultipleResponseDto response = new MultipleResponseDto(users);
-        when(userService.findUsersByBirthDateRange(from, to)).thenReturn(response);
+        when(userService.findUsersByBirthDateRange(from, to, null, null)).thenReturn(response);
 
         MvcResult result = mockMvc.perform(get("/users")
                         .param("from", from.toString())
@@ -281,7 +498,7 @@ public class UserControllerTest {
         LocalDate from = LocalDate.of(1995, 1, 1);
         LocalDate to = LocalDate.of(1990, 12, 31);
 
-        when(userService.findUsersByBirthDateRange(from, to))
+        when(userService.findUsersByBirthDateRange(from, to, null, null))
                 .thenThrow(new IllegalArgumentException(ExceptionMessage.INVALID_DATE_RANGE));
 
         mockMvc.perform(get("/users")
@@ -293,6 +510,95 @@ public class UserControllerTest {
                         jsonPath("$.errors.error").value(ExceptionMessage.INVALID_DATE_RANGE));
     }
 
+    @Test
+    @SneakyThrows
+    void testFindUsersByBirthDateRange_WhenProvidedCursorAndSize_ThenReturnNextPage() {
+        LocalDate from = LocalDate.of(1990, 1, 1);
+        LocalDate to = LocalDate.of(1995, 12, 31);
+        String cursor = new UserPageCursor(LocalDate.of(1991, 1, 1), USER_ID).encode();
+        String nextCursor = new UserPageCursor(LocalDate.of(1992, 1, 1), USER_ID).encode();
+
+        UserDto user = new UserDto(USER_ID, "email@google.com", "John", "Doe",
+                LocalDate.of(1992, 1, 1), null, null, 0L);
+        MultipleResponseDto response = new MultipleResponseDto(List.of(user), nextCursor);
+        when(userService.findUsersByBirthDateRange(from, to, cursor, 1)).thenReturn(response);
+
+        mockMvc.perform(get("/users")
+                        .param("from", from.toString())
+                        .param("to", to.toString())
+                        .param("cursor", cursor)
+                        .param("size", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpectAll(status().isOk(),
+                        jsonPath("$.data.length()").value(1),
+                        jsonPath("$.nextCursor").value(nextCursor));
+    }
+
+    @Test
+    @SneakyThrows
+    void testSearchUsers_WhenProvidedQuery_ThenReturnMatchingUsers() {
+        String nextCursor = new UserSearchCursor(USER_ID).encode();
+        UserDto user = new UserDto(USER_ID, "john.doe@google.com", "John", "Doe",
+                LocalDate.of(1992, 1, 1), null, null, 0L);
+        when(userService.searchUsers("doe", null, 1)).thenReturn(new MultipleResponseDto(List.of(user), nextCursor));
+
+        mockMvc.perform(get("/users/search")
+                        .param("q", "doe")
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpectAll(status().isOk(),
+                        jsonPath("$.data[0].email").value(user.getEmail()),
+                        jsonPath("$.nextCursor").value(nextCursor));
+    }
+
+    @Test
+    @SneakyThrows
+    void testSearchUsers_WhenQueryIsTooShort_ThenReturnBadRequest() {
+        String message = String.format(ExceptionMessage.INVALID_SEARCH_QUERY, 3, 100);
+        when(userService.searchUsers("do", null, null)).thenThrow(new IllegalArgumentException(message));
+
+        mockMvc.perform(get("/users/search")
+                        .param("q", "do"))
+                .andDo(print())
+                .andExpectAll(status().isBadRequest(),
+                        jsonPath("$.errors.error").value(message));
+    }
+
+    @Test
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    void testExportUsersByBirthDateRange_WhenProvidedValidRange_ThenStreamUsersAsNdjson() {
+        LocalDate from = LocalDate.of(1990, 1, 1);
+        LocalDate to = LocalDate.of(1995, 12, 31);
+
+        UserDto user1 = new UserDto(USER_ID, "email@google.com", "John", "Doe",
+                LocalDate.of(1991, 1, 1), null, null, 0L);
+        UserDto user2 = new UserDto(USER_ID, "email2@google.com", "Jane", "Doe",
+                LocalDate.of(1992, 1, 1), "some address", "380999999999", 0L);
+        doAnswer(invocation -> {
+            Consumer<UserDto> consumer = invocation.getArgument(2);
+            consumer.accept(user1);
+            consumer.accept(user2);
+            return null;
+        }).when(userService).exportUsersByBirthDateRange(eq(from), eq(to), any(Consumer.class));
+
+        MvcResult asyncResult = mockMvc.perform(get("/users/export")
+                        .param("from", from.toString())
+                        .param("to", to.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andDo(print())
+                .andExpectAll(status().isOk(),
+                        content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsString()).isEqualTo(
+                objectMapper.writeValueAsString(user1) + "\n" + objectMapper.writeValueAsString(user2) + "\n");
+    }
+
     static Stream<UserCreateRequest> validUserCreateRequest() {
         return Stream.of(
                 new UserCreateRequest("email@google.com", "John", "Doe",
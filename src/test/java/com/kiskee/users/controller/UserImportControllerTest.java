@@ -0,0 +1,147 @@
+package com.kiskee.users.controller;
+
+import com.kiskee.users.exception.ImportCapacityExceededException;
+import com.kiskee.users.exception.ImportInProgressException;
+import com.kiskee.users.exception.ImportJobNotFoundException;
+import com.kiskee.users.model.dto.ImportResponseDto;
+import com.kiskee.users.model.dto.user.imports.UserImportFormat;
+import com.kiskee.users.model.dto.user.imports.UserImportJobDto;
+import com.kiskee.users.model.dto.user.imports.UserImportStatus;
+import com.kiskee.users.service.user.imports.UserImportService;
+import com.kiskee.users.util.ExceptionMessage;
+import com.kiskee.users.web.controller.UserImportController;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(SpringExtension.class)
+@WebMvcTest(UserImportController.class)
+public class UserImportControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+    private MockMvc mockMvc;
+    @MockBean
+    private UserImportService userImportService;
+
+    private static final UUID JOB_ID = UUID.fromString("0b7f5a6e-5f43-4f4c-9d7c-3f1c2a9e8b11");
+    private static final MockMultipartFile FILE = new MockMultipartFile("file", "users.csv", "text/csv",
+            "email,firstName,lastName,birthDate\n".getBytes(StandardCharsets.UTF_8));
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.webApplicationContext).build();
+    }
+
+    @Test
+    @SneakyThrows
+    void testImportUsers_WhenFileIsUploaded_ThenReturnAcceptedJob() {
+        when(userImportService.submitImport(any())).thenReturn(new ImportResponseDto(
+                job(UserImportStatus.PENDING)));
+
+        mockMvc.perform(multipart("/users/imports").file(FILE))
+                .andDo(print())
+                .andExpectAll(status().isAccepted(),
+                        jsonPath("$.data.id").value(JOB_ID.toString()),
+                        jsonPath("$.data.status").value("PENDING"),
+                        jsonPath("$.data.format").value("CSV"));
+    }
+
+    @Test
+    @SneakyThrows
+    void testImportUsers_WhenNoCapacityLeft_ThenReturnServiceUnavailable() {
+        when(userImportService.submitImport(any())).thenThrow(new ImportCapacityExceededException());
+
+        mockMvc.perform(multipart("/users/imports").file(FILE))
+                .andDo(print())
+                .andExpectAll(status().isServiceUnavailable(),
+                        jsonPath("$.errors.error").value(ExceptionMessage.IMPORT_CAPACITY_EXCEEDED));
+    }
+
+    @Test
+    @SneakyThrows
+    void testGetImport_WhenJobExists_ThenReturnProgress() {
+        when(userImportService.getImport(JOB_ID)).thenReturn(new ImportResponseDto(
+                job(UserImportStatus.COMPLETED)));
+
+        mockMvc.perform(get("/users/imports/{jobId}", JOB_ID))
+                .andDo(print())
+                .andExpectAll(status().isOk(),
+                        jsonPath("$.data.status").value("COMPLETED"),
+                        jsonPath("$.data.processedRows").value(10),
+                        jsonPath("$.data.importedRows").value(8),
+                        jsonPath("$.data.rejectedRows").value(2),
+                        jsonPath("$.data.rowsPerSecond").value(5));
+    }
+
+    @Test
+    @SneakyThrows
+    void testGetImport_WhenJobDoesNotExist_ThenReturnNotFound() {
+        when(userImportService.getImport(JOB_ID)).thenThrow(new ImportJobNotFoundException(JOB_ID));
+
+        mockMvc.perform(get("/users/imports/{jobId}", JOB_ID))
+                .andDo(print())
+                .andExpectAll(status().isNotFound(),
+                        jsonPath("$.errors.error").value(String.format(ExceptionMessage.IMPORT_JOB_NOT_FOUND, JOB_ID)));
+    }
+
+    @Test
+    @SneakyThrows
+    void testGetRejectionReport_WhenJobFinished_ThenReturnCsvAttachment() {
+        String report = "row,email,reason\n2,not-an-email,\"email: must be a well-formed email address\"\n";
+        when(userImportService.getRejectionReport(JOB_ID))
+                .thenReturn(new ByteArrayResource(report.getBytes(StandardCharsets.UTF_8)));
+
+        mockMvc.perform(get("/users/imports/{jobId}/rejections", JOB_ID))
+                .andDo(print())
+                .andExpectAll(status().isOk(),
+                        content().contentType("text/csv"),
+                        header().string(HttpHeaders.CONTENT_DISPOSITION,
+                                "attachment; filename=\"rejections-" + JOB_ID + ".csv\""),
+                        content().string(report));
+    }
+
+    @Test
+    @SneakyThrows
+    void testGetRejectionReport_WhenJobIsStillRunning_ThenReturnConflict() {
+        when(userImportService.getRejectionReport(JOB_ID)).thenThrow(new ImportInProgressException(JOB_ID));
+
+        mockMvc.perform(get("/users/imports/{jobId}/rejections", JOB_ID))
+                .andDo(print())
+                .andExpect(status().isConflict());
+    }
+
+    private UserImportJobDto job(UserImportStatus status) {
+        Instant createdAt = Instant.parse("2024-05-01T10:00:00Z");
+        boolean finished = status == UserImportStatus.COMPLETED;
+
+        return new UserImportJobDto(JOB_ID, "users.csv", UserImportFormat.CSV, status, finished ? 10 : 0,
+                finished ? 8 : 0, finished ? 2 : 0, finished ? 5 : 0, createdAt,
+                finished ? createdAt : null, finished ? createdAt.plusSeconds(2) : null, null);
+    }
+}
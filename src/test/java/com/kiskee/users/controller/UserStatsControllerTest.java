@@ -0,0 +1,95 @@
+package com.kiskee.users.controller;
+
+import com.kiskee.users.model.dto.StatsResponseDto;
+import com.kiskee.users.model.dto.user.stats.UserCountBucket;
+import com.kiskee.users.model.dto.user.stats.UserStatsGrouping;
+import com.kiskee.users.service.user.stats.UserStatsService;
+import com.kiskee.users.util.ExceptionMessage;
+import com.kiskee.users.web.controller.UserStatsController;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(SpringExtension.class)
+@WebMvcTest(UserStatsController.class)
+public class UserStatsControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+    private MockMvc mockMvc;
+    @MockBean
+    private UserStatsService userStatsService;
+
+    private static final LocalDate FROM = LocalDate.of(1990, 1, 1);
+    private static final LocalDate TO = LocalDate.of(1995, 12, 31);
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.webApplicationContext).build();
+    }
+
+    @Test
+    @SneakyThrows
+    void testCountUsers_WhenGroupByIsOmitted_ThenReturnCountsPerYear() {
+        when(userStatsService.countUsers(FROM, TO, UserStatsGrouping.YEAR, null)).thenReturn(new StatsResponseDto(
+                UserStatsGrouping.YEAR, 5, List.of(new UserCountBucket("1990", 2), new UserCountBucket("1991", 3))));
+
+        mockMvc.perform(get("/users/stats")
+                        .param("from", FROM.toString())
+                        .param("to", TO.toString()))
+                .andDo(print())
+                .andExpectAll(status().isOk(),
+                        jsonPath("$.groupBy").value("YEAR"),
+                        jsonPath("$.total").value(5),
+                        jsonPath("$.buckets[1].bucket").value("1991"),
+                        jsonPath("$.buckets[1].count").value(3));
+    }
+
+    @Test
+    @SneakyThrows
+    void testCountUsers_WhenGroupedByAge_ThenPassBucketSize() {
+        when(userStatsService.countUsers(FROM, TO, UserStatsGrouping.AGE, 5)).thenReturn(new StatsResponseDto(
+                UserStatsGrouping.AGE, 4, List.of(new UserCountBucket("30-34", 4))));
+
+        mockMvc.perform(get("/users/stats")
+                        .param("from", FROM.toString())
+                        .param("to", TO.toString())
+                        .param("groupBy", "AGE")
+                        .param("ageBucketSize", "5"))
+                .andDo(print())
+                .andExpectAll(status().isOk(),
+                        jsonPath("$.buckets[0].bucket").value("30-34"));
+    }
+
+    @Test
+    @SneakyThrows
+    void testCountUsers_WhenRangeIsInvalid_ThenReturnBadRequest() {
+        when(userStatsService.countUsers(TO, FROM, UserStatsGrouping.MONTH, null))
+                .thenThrow(new IllegalArgumentException(ExceptionMessage.INVALID_DATE_RANGE));
+
+        mockMvc.perform(get("/users/stats")
+                        .param("from", TO.toString())
+                        .param("to", FROM.toString())
+                        .param("groupBy", "MONTH"))
+                .andDo(print())
+                .andExpectAll(status().isBadRequest(),
+                        jsonPath("$.errors.error").value(ExceptionMessage.INVALID_DATE_RANGE));
+    }
+}
@@ -46,7 +46,7 @@ public class UserMapperTest {
     @Test
     void testToUpdatedEntity() {
         User userTarget = new User(USER_ID, "email@google.com", "John", "Doe",
-                LocalDate.of(1990, 2, 13), "some address", "380999999999");
+                LocalDate.of(1990, 2, 13), "some address", "380999999999", 0L);
         UserUpdateRequestDto updateRequest = new UserUpdateRequestDto("newEmail@google.com", null, null,
                 null, null, null);
 
@@ -63,7 +63,7 @@ public class UserMapperTest {
     @Test
     void testToDto() {
         User user = new User(USER_ID, "email@google.com", "John", "Doe",
-                LocalDate.of(1990, 2, 13), "some address", "380999999999");
+                LocalDate.of(1990, 2, 13), "some address", "380999999999", 0L);
 
         UserDto dto = userMapper.toDto(user);
         assertThat(dto.getId()).isEqualTo(USER_ID);
@@ -0,0 +1,206 @@
+package com.kiskee.users.repository;
+
+import com.kiskee.users.model.dto.user.UserDto;
+import com.kiskee.users.model.dto.user.stats.BirthMonthCount;
+import com.kiskee.users.model.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+public class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private List<User> users;
+
+    @BeforeEach
+    public void setup() {
+        List<LocalDate> birthDates = List.of(
+                LocalDate.of(1990, 1, 1),
+                LocalDate.of(1991, 1, 1),
+                LocalDate.of(1991, 1, 1),
+                LocalDate.of(1992, 1, 1),
+                LocalDate.of(2000, 1, 1));
+
+        users = userRepository.saveAllAndFlush(IntStream.range(0, birthDates.size())
+                .mapToObj(index -> new User(null, "email" + index + "@google.com", "John", "Doe",
+                        birthDates.get(index), "some address", "380999999999", null))
+                .toList());
+    }
+
+    @Test
+    void testFindDtoById_WhenUserExists_ThenReturnProjection() {
+        User user = users.getFirst();
+
+        Optional<UserDto> result = userRepository.findDtoById(user.getId());
+
+        assertThat(result).contains(new UserDto(user.getId(), user.getEmail(), user.getFirstName(),
+                user.getLastName(), user.getBirthDate(), user.getAddress(), user.getPhoneNumber(),
+                user.getVersion()));
+    }
+
+    @Test
+    void testFindDtosByIds_WhenSomeIdsDoNotExist_ThenReturnOnlyExistingUsers() {
+        User first = users.getFirst();
+        User last = users.getLast();
+
+        List<UserDto> result = userRepository.findDtosByIds(List.of(first.getId(), UUID.randomUUID(), last.getId()));
+
+        assertThat(result).containsExactlyInAnyOrder(
+                new UserDto(first.getId(), first.getEmail(), first.getFirstName(), first.getLastName(),
+                        first.getBirthDate(), first.getAddress(), first.getPhoneNumber(), first.getVersion()),
+                new UserDto(last.getId(), last.getEmail(), last.getFirstName(), last.getLastName(),
+                        last.getBirthDate(), last.getAddress(), last.getPhoneNumber(), last.getVersion()));
+    }
+
+    @Test
+    void testKeysetPagination_WhenWalkingAllPages_ThenReturnEveryUserInRangeOnceInOrder() {
+        LocalDate from = LocalDate.of(1990, 1, 1);
+        LocalDate to = LocalDate.of(1995, 12, 31);
+
+        List<UserDto> firstPage = userRepository.findFirstPageByBirthDateBetween(from, to, Limit.of(2));
+        UserDto last = firstPage.getLast();
+        List<UserDto> secondPage = userRepository.findNextPageByBirthDateBetween(last.getBirthDate(), last.getId(),
+                to, Limit.of(2));
+        last = secondPage.getLast();
+        List<UserDto> thirdPage = userRepository.findNextPageByBirthDateBetween(last.getBirthDate(), last.getId(),
+                to, Limit.of(2));
+
+        assertThat(Stream.of(firstPage, secondPage, thirdPage).flatMap(List::stream))
+                .extracting(UserDto::getBirthDate)
+                .containsExactly(
+                        LocalDate.of(1990, 1, 1),
+                        LocalDate.of(1991, 1, 1),
+                        LocalDate.of(1991, 1, 1),
+                        LocalDate.of(1992, 1, 1));
+        assertThat(Stream.of(firstPage, secondPage).flatMap(List::stream).map(UserDto::getId))
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void testScanBirthDates_WhenCalled_ThenVisitUsersInKeysetPaginationOrder() {
+        List<UUID> scannedIds = new ArrayList<>();
+
+        userRepository.scanBirthDates((id, birthDate) -> scannedIds.add(id));
+
+        assertThat(scannedIds).containsExactlyElementsOf(userRepository
+                .findFirstPageByBirthDateBetween(LocalDate.of(1900, 1, 1),
+                        LocalDate.of(2100, 1, 1), Limit.unlimited()).stream()
+                .map(UserDto::getId)
+                .toList());
+    }
+
+    @Test
+    void testDeleteUserByIdAndVersions_WhenVersionIsListed_ThenDeleteUser() {
+        User user = users.getFirst();
+
+        int deleted = userRepository.deleteUserByIdAndVersions(user.getId(), Set.of(7L, user.getVersion()));
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(userRepository.existsById(user.getId())).isFalse();
+    }
+
+    @Test
+    void testDeleteUserByIdAndVersions_WhenVersionIsNotListed_ThenKeepUser() {
+        User user = users.getFirst();
+
+        int deleted = userRepository.deleteUserByIdAndVersions(user.getId(), Set.of(user.getVersion() + 1));
+
+        assertThat(deleted).isZero();
+        assertThat(userRepository.existsById(user.getId())).isTrue();
+    }
+
+    @Test
+    void testSearch_WhenPatternMatchesAnyNameOrEmail_ThenReturnMatchesOrderedById() {
+        List<User> matching = userRepository.saveAllAndFlush(List.of(
+                new User(null, "anna.smith@google.com", "Anna", "Smith", LocalDate.of(1990, 1, 1), null, null, null),
+                new User(null, "bob@google.com", "Bob", "Blacksmith", LocalDate.of(1990, 1, 1), null, null, null),
+                new User(null, "carl@smithy.com", "Carl", "Jones", LocalDate.of(1990, 1, 1), null, null, null)));
+        List<UUID> expectedIds = matching.stream().map(User::getId).sorted(Comparator.comparing(UUID::toString))
+                .toList();
+
+        List<UserDto> firstPage = userRepository.searchFirstPage("%smith%", Limit.of(2));
+        List<UserDto> secondPage = userRepository.searchNextPage("%smith%", firstPage.getLast().getId(),
+                Limit.of(2));
+
+        assertThat(Stream.of(firstPage, secondPage).flatMap(List::stream).map(UserDto::getId))
+                .containsExactlyElementsOf(expectedIds);
+    }
+
+    @Test
+    void testSearch_WhenPatternContainsEscapedWildcard_ThenMatchItLiterally() {
+        userRepository.saveAndFlush(new User(null, "first_last@google.com", "First", "Last",
+                LocalDate.of(1990, 1, 1), null, null, null));
+        userRepository.saveAndFlush(new User(null, "firstxlast@google.com", "First", "Last",
+                LocalDate.of(1990, 1, 1), null, null, null));
+
+        List<UserDto> result = userRepository.searchFirstPage("%first\\_last%", Limit.of(10));
+
+        assertThat(result).extracting(UserDto::getEmail).containsExactly("first_last@google.com");
+    }
+
+    @Test
+    void testCountByBirthMonth_WhenCountingUsers_ThenGroupByYearAndMonth() {
+        List<BirthMonthCount> result = userRepository.countByBirthMonth(LocalDate.of(1990, 1, 1),
+                LocalDate.of(1995, 12, 31), UserCountSource.USERS);
+
+        assertThat(result).containsExactly(
+                new BirthMonthCount(1990, 1, 1),
+                new BirthMonthCount(1991, 1, 2),
+                new BirthMonthCount(1992, 1, 1));
+    }
+
+    @Test
+    @Sql(statements = {
+            "CREATE TABLE user_birth_date_counts (birth_date DATE PRIMARY KEY, user_count BIGINT NOT NULL)",
+            "INSERT INTO user_birth_date_counts VALUES ('1991-01-01', 40), ('1991-01-15', 2), ('1999-01-01', 7)"},
+            config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    @Sql(statements = "DROP TABLE user_birth_date_counts",
+            config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED),
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testCountByBirthMonth_WhenCountingSummary_ThenSumStoredCounts() {
+        List<BirthMonthCount> result = userRepository.countByBirthMonth(LocalDate.of(1990, 1, 1),
+                LocalDate.of(1995, 12, 31), UserCountSource.SUMMARY);
+
+        assertThat(result).containsExactly(new BirthMonthCount(1991, 1, 42));
+    }
+
+    @Test
+    void testCountByBirthDateRanges_WhenGivenBoundaries_ThenCountUsersInEachHalfOpenRange() {
+        long[] result = userRepository.countByBirthDateRanges(List.of(
+                LocalDate.of(1990, 1, 1),
+                LocalDate.of(1991, 1, 1),
+                LocalDate.of(1991, 1, 2),
+                LocalDate.of(1995, 1, 1),
+                LocalDate.of(2001, 1, 1)), UserCountSource.USERS);
+
+        assertThat(result).containsExactly(1, 2, 1, 1);
+    }
+
+    @Test
+    void testCountByBirthDateRanges_WhenGivenSingleRange_ThenCountAllUsersInIt() {
+        long[] result = userRepository.countByBirthDateRanges(List.of(
+                LocalDate.of(1991, 1, 1),
+                LocalDate.of(1993, 1, 1)), UserCountSource.USERS);
+
+        assertThat(result).containsExactly(3);
+    }
+}
@@ -0,0 +1,45 @@
+package com.kiskee.users.repository;
+
+import com.kiskee.users.model.dto.user.UserPartialUpdateRequestDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserUpdateStatementTest {
+
+    private static final UUID USER_ID = UUID.fromString("e85bcd9a-00ed-45d3-87c9-ac0c8ad68203");
+
+    @Test
+    void testOf_WhenFieldsChanged_ThenIncrementVersion() {
+        UserUpdateStatement statement = UserUpdateStatement.of(USER_ID,
+                new UserPartialUpdateRequestDto(null, "John", null, null, null, null), null);
+
+        assertThat(statement.sql()).isEqualTo("UPDATE users SET first_name = :first_name, version = version + 1"
+                + " WHERE id = :id RETURNING " + UserUpdateStatement.USER_COLUMNS);
+        assertThat(statement.parameters()).isEqualTo(Map.of("id", USER_ID, "first_name", "John"));
+    }
+
+    @Test
+    void testOf_WhenExpectedVersionsGiven_ThenUpdateOnlyThoseVersions() {
+        UserUpdateStatement statement = UserUpdateStatement.of(USER_ID,
+                new UserPartialUpdateRequestDto(null, "John", null, null, null, null), Set.of(3L, 4L));
+
+        assertThat(statement.sql()).isEqualTo("UPDATE users SET first_name = :first_name, version = version + 1"
+                + " WHERE id = :id AND version IN (:versions) RETURNING " + UserUpdateStatement.USER_COLUMNS);
+        assertThat(statement.parameters())
+                .isEqualTo(Map.of("id", USER_ID, "first_name", "John", "versions", Set.of(3L, 4L)));
+    }
+
+    @Test
+    void testOf_WhenNothingChangedAndExpectedVersionsGiven_ThenSelectOnlyThoseVersions() {
+        UserUpdateStatement statement = UserUpdateStatement.of(USER_ID,
+                new UserPartialUpdateRequestDto(null, null, null, null, null, null), Set.of(3L));
+
+        assertThat(statement.sql()).isEqualTo("SELECT " + UserUpdateStatement.USER_COLUMNS
+                + " FROM users WHERE id = :id AND version IN (:versions)");
+    }
+}
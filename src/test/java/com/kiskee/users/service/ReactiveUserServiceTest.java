@@ -0,0 +1,224 @@
+package com.kiskee.users.service;
+
+import com.kiskee.users.exception.BulkConflictException;
+import com.kiskee.users.exception.DuplicateResourceException;
+import com.kiskee.users.exception.RegistrationRestrictionException;
+import com.kiskee.users.exception.ResourceNotFoundException;
+import com.kiskee.users.model.dto.DeleteResponseDto;
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.model.dto.user.UserDto;
+import com.kiskee.users.model.dto.user.UserPartialUpdateRequestDto;
+import com.kiskee.users.model.dto.user.bulk.UserCreateResult;
+import com.kiskee.users.model.dto.user.bulk.UserCreateStatus;
+import com.kiskee.users.repository.ReactiveUserRepository;
+import com.kiskee.users.service.user.ReactiveUserServiceImpl;
+import com.kiskee.users.service.user.UserValidator;
+import com.kiskee.users.util.ExceptionMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveUserServiceTest {
+
+    @InjectMocks
+    private ReactiveUserServiceImpl userService;
+    @Mock
+    private ReactiveUserRepository userRepository;
+    @Mock
+    private UserValidator userValidator;
+
+    private static final UUID USER_ID = UUID.fromString("e85bcd9a-00ed-45d3-87c9-ac0c8ad68203");
+
+    @Test
+    void testCreateUser_WhenValidUserCreateRequest_ThenCreateUser() {
+        UserCreateRequest createRequest = new UserCreateRequest("email@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), "some address", "380999999999");
+        UserDto createdUser = mock(UserDto.class);
+        when(userRepository.insert(any(UUID.class), eq(createRequest))).thenReturn(Mono.just(createdUser));
+
+        StepVerifier.create(userService.createUser(createRequest))
+                .expectNextMatches(response -> response.getData() == createdUser)
+                .verifyComplete();
+    }
+
+    @Test
+    void testCreateUser_WhenUserAlreadyExists_ThenEmitDuplicateResourceException() {
+        UserCreateRequest createRequest = new UserCreateRequest("email@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null);
+        when(userRepository.insert(any(UUID.class), eq(createRequest)))
+                .thenReturn(Mono.error(new DataIntegrityViolationException("users_email_key")));
+
+        StepVerifier.create(userService.createUser(createRequest))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(DuplicateResourceException.class)
+                        .hasMessage(String.format(ExceptionMessage.USER_ALREADY_EXISTS, createRequest.getEmail())))
+                .verify();
+    }
+
+    @Test
+    void testCreateUser_WhenUserIsUnderAge_ThenEmitRegistrationRestrictionException() {
+        UserCreateRequest createRequest = new UserCreateRequest("email@google.com", "John", "Doe",
+                LocalDate.of(2014, 2, 13), null, null);
+        doThrow(new RegistrationRestrictionException(ExceptionMessage.USER_REGISTRATION_RESTRICTION))
+                .when(userValidator).validateRegistrationRequest(createRequest);
+
+        StepVerifier.create(userService.createUser(createRequest))
+                .expectError(RegistrationRestrictionException.class)
+                .verify();
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void testCreateUsers_WhenGivenMixedRequests_ThenEmitPerItemResults() {
+        UserCreateRequest newRequest = new UserCreateRequest("new@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null);
+        UserCreateRequest existingRequest = new UserCreateRequest("existing@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null);
+        UserCreateRequest repeatedRequest = new UserCreateRequest("new@google.com", "Jane", "Doe",
+                LocalDate.of(1991, 2, 13), null, null);
+        UserCreateRequest underageRequest = new UserCreateRequest("young@google.com", "John", "Doe",
+                LocalDate.of(2014, 2, 13), null, null);
+        UserDto createdUser = new UserDto(USER_ID, newRequest.getEmail(), newRequest.getFirstName(),
+                newRequest.getLastName(), newRequest.getBirthDate(), null, null, 0L);
+
+        when(userRepository.findExistingEmails(Set.of("new@google.com", "existing@google.com", "young@google.com")))
+                .thenReturn(Flux.just("existing@google.com"));
+        when(userValidator.isRegistrationAllowed(any(UserCreateRequest.class))).thenReturn(true);
+        when(userValidator.isRegistrationAllowed(underageRequest)).thenReturn(false);
+        when(userRepository.insert(any(UUID.class), eq(newRequest))).thenReturn(Mono.just(createdUser));
+
+        StepVerifier.create(userService.createUsers(
+                        List.of(newRequest, existingRequest, repeatedRequest, underageRequest)))
+                .assertNext(response -> assertThat(response.getData()).containsExactly(
+                        new UserCreateResult(0, "new@google.com", UserCreateStatus.CREATED, createdUser),
+                        new UserCreateResult(1, "existing@google.com", UserCreateStatus.DUPLICATE, null),
+                        new UserCreateResult(2, "new@google.com", UserCreateStatus.DUPLICATE, null),
+                        new UserCreateResult(3, "young@google.com", UserCreateStatus.UNDERAGE, null)))
+                .verifyComplete();
+    }
+
+    @Test
+    void testCreateUsers_WhenEmailIsRegisteredConcurrently_ThenEmitBulkConflictException() {
+        UserCreateRequest createRequest = new UserCreateRequest("new@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null);
+
+        when(userRepository.findExistingEmails(Set.of("new@google.com"))).thenReturn(Flux.empty());
+        when(userValidator.isRegistrationAllowed(createRequest)).thenReturn(true);
+        when(userRepository.insert(any(UUID.class), eq(createRequest)))
+                .thenReturn(Mono.error(new DataIntegrityViolationException("users_email_key")));
+
+        StepVerifier.create(userService.createUsers(List.of(createRequest)))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(BulkConflictException.class)
+                        .hasMessage(ExceptionMessage.BULK_CONFLICT))
+                .verify();
+    }
+
+    @Test
+    void testCreateUsers_WhenBulkIsTooLarge_ThenEmitIllegalArgumentException() {
+        List<UserCreateRequest> createRequests = List.of(mock(UserCreateRequest.class));
+        doThrow(new IllegalArgumentException(String.format(ExceptionMessage.INVALID_BULK_SIZE, 0)))
+                .when(userValidator).validateBulkSize(createRequests.size());
+
+        StepVerifier.create(userService.createUsers(createRequests))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void testGetUser_WhenUserDoesNotExist_ThenEmitResourceNotFoundException() {
+        when(userRepository.findById(USER_ID)).thenReturn(Mono.empty());
+
+        StepVerifier.create(userService.getUser(USER_ID))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void testUpdateUser_WhenUserDoesNotExist_ThenEmitResourceNotFoundException() {
+        UserPartialUpdateRequestDto updateRequest = new UserPartialUpdateRequestDto(null, "John",
+                null, null, null, null);
+        when(userRepository.updateNonNullFields(USER_ID, updateRequest)).thenReturn(Mono.empty());
+
+        StepVerifier.create(userService.updateUser(USER_ID, updateRequest))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void testDeleteUser_WhenUserDoesNotExist_ThenEmitResourceNotFoundException() {
+        when(userRepository.deleteById(USER_ID)).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(userService.deleteUser(USER_ID))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void testDeleteUser_WhenUserExists_ThenComplete() {
+        when(userRepository.deleteById(USER_ID)).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(userService.deleteUser(USER_ID))
+                .verifyComplete();
+    }
+
+    @Test
+    void testDeleteUsers_WhenGivenRepeatedIds_ThenDeleteEachIdOnce() {
+        UUID otherId = UUID.fromString("5f0c7c83-3c9a-4f36-9d4e-0a8a3e1d2b44");
+        when(userRepository.deleteByIds(Set.of(USER_ID, otherId))).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(userService.deleteUsers(List.of(USER_ID, otherId, USER_ID)))
+                .expectNext(new DeleteResponseDto(1))
+                .verifyComplete();
+    }
+
+    @Test
+    void testFindUsersByBirthDateRange_WhenValidRange_ThenStreamUsers() {
+        LocalDate from = LocalDate.of(1990, 1, 1);
+        LocalDate to = LocalDate.of(1995, 12, 31);
+        UserDto userDto1 = mock(UserDto.class);
+        UserDto userDto2 = mock(UserDto.class);
+        when(userRepository.findByBirthDateBetween(from, to)).thenReturn(Flux.just(userDto1, userDto2));
+
+        StepVerifier.create(userService.findUsersByBirthDateRange(from, to))
+                .expectNext(userDto1, userDto2)
+                .verifyComplete();
+    }
+
+    @Test
+    void testFindUsersByBirthDateRange_WhenGivenInvalidRange_ThenEmitIllegalArgumentException() {
+        LocalDate from = LocalDate.of(1995, 12, 31);
+        LocalDate to = LocalDate.of(1990, 1, 1);
+        doThrow(new IllegalArgumentException(ExceptionMessage.INVALID_DATE_RANGE))
+                .when(userValidator).validateBirthDateRange(from, to);
+
+        StepVerifier.create(userService.findUsersByBirthDateRange(from, to))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -0,0 +1,200 @@
+package com.kiskee.users.service;
+
+import com.kiskee.users.config.properties.BirthDateIndexProperties;
+import com.kiskee.users.model.dto.user.UserPageCursor;
+import com.kiskee.users.repository.UserRepository;
+import com.kiskee.users.service.user.UserBirthDateIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UserBirthDateIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Runnable> compactions = new ArrayList<>();
+
+    private static final LocalDate FROM = LocalDate.of(1990, 1, 1);
+    private static final LocalDate TO = LocalDate.of(1995, 12, 31);
+    private static final UUID FIRST_ID = UUID.fromString("0b1c7a3e-5d5f-4d3a-9a8e-2f0f7d9b1c11");
+    private static final UUID SECOND_ID = UUID.fromString("5f0c7c83-3c9a-4f36-9d4e-0a8a3e1d2b44");
+    private static final UUID THIRD_ID = UUID.fromString("e85bcd9a-00ed-45d3-87c9-ac0c8ad68203");
+    private static final UUID FOURTH_ID = UUID.fromString("9a7b2f1e-6d3c-4b8a-a1e2-3c4d5e6f7a8b");
+
+    @Test
+    void testFindIds_WhenIndexIsNotLoaded_ThenReturnEmpty() {
+        UserBirthDateIndex index = index(true, 100);
+
+        assertThat(findIds(index, FROM, TO, null, 10)).isEmpty();
+    }
+
+    @Test
+    void testFindIds_WhenIndexIsDisabled_ThenNeverLoad() {
+        UserBirthDateIndex index = index(false, 100);
+
+        index.rebuild();
+        index.put(FIRST_ID, LocalDate.of(1991, 1, 1));
+
+        assertThat(findIds(index, FROM, TO, null, 10)).isEmpty();
+        verifyNoInteractions(userRepository, transactionManager);
+    }
+
+    @Test
+    void testFindIds_WhenLoaded_ThenReturnIdsInRangeOrderedByBirthDateAndUnsignedId() {
+        UserBirthDateIndex index = loadedIndex(100);
+
+        assertThat(findIds(index, FROM, TO, null, 10))
+                .contains(List.of(FIRST_ID, SECOND_ID, THIRD_ID));
+        assertThat(findIds(index, LocalDate.of(1991, 1, 1), LocalDate.of(1991, 1, 1), null, 10))
+                .contains(List.of(SECOND_ID, THIRD_ID));
+        assertThat(findIds(index, FROM, TO, null, 2))
+                .contains(List.of(FIRST_ID, SECOND_ID));
+    }
+
+    @Test
+    void testFindIds_WhenGivenCursor_ThenReturnIdsAfterIt() {
+        UserBirthDateIndex index = loadedIndex(100);
+
+        assertThat(findIds(index, FROM, TO, new UserPageCursor(LocalDate.of(1991, 1, 1), SECOND_ID), 10))
+                .contains(List.of(THIRD_ID));
+    }
+
+    @Test
+    void testFindIds_WhenUsersAreWrittenAfterLoad_ThenMergeChangesIntoResults() {
+        UserBirthDateIndex index = loadedIndex(100);
+
+        index.put(FOURTH_ID, LocalDate.of(1991, 1, 1));
+        index.put(FIRST_ID, LocalDate.of(1993, 1, 1));
+        index.remove(SECOND_ID);
+
+        assertThat(findIds(index, FROM, TO, null, 10))
+                .contains(List.of(FOURTH_ID, THIRD_ID, FIRST_ID));
+    }
+
+    @Test
+    void testFindIds_WhenChangesExceedCompactionThreshold_ThenKeepSameResults() {
+        UserBirthDateIndex index = loadedIndex(2, Runnable::run);
+
+        index.put(FOURTH_ID, LocalDate.of(1991, 1, 1));
+        index.removeAll(List.of(SECOND_ID, THIRD_ID));
+        index.put(SECOND_ID, LocalDate.of(1994, 1, 1));
+
+        assertThat(findIds(index, FROM, TO, null, 10))
+                .contains(List.of(FIRST_ID, FOURTH_ID, SECOND_ID));
+    }
+
+    @Test
+    void testFindIds_WhenCompactionRunsInBackground_ThenServeOverlayUntilSwapAndKeepLaterWrites() {
+        UserBirthDateIndex index = loadedIndex(2, compactions::add);
+
+        index.put(FOURTH_ID, LocalDate.of(1991, 1, 1));
+        index.remove(SECOND_ID);
+        index.put(FIRST_ID, LocalDate.of(1993, 1, 1));
+
+        assertThat(compactions).hasSize(1);
+        assertThat(findIds(index, FROM, TO, null, 10))
+                .contains(List.of(FOURTH_ID, THIRD_ID, FIRST_ID));
+
+        compactions.removeFirst().run();
+        index.remove(FOURTH_ID);
+
+        assertThat(findIds(index, FROM, TO, null, 10))
+                .contains(List.of(THIRD_ID, FIRST_ID));
+        assertThat(index.findEntries(FROM, TO, null, 1))
+                .contains(List.of(new UserPageCursor(LocalDate.of(1991, 1, 1), THIRD_ID)));
+    }
+
+    @Test
+    void testPut_WhenTransactionIsActive_ThenApplyOnlyAfterCommit() {
+        UserBirthDateIndex index = loadedIndex(100);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.put(FOURTH_ID, LocalDate.of(1995, 1, 1));
+
+            assertThat(findIds(index, FROM, TO, null, 10)).contains(List.of(FIRST_ID, SECOND_ID, THIRD_ID));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(findIds(index, FROM, TO, null, 10)).contains(List.of(FIRST_ID, SECOND_ID, THIRD_ID, FOURTH_ID));
+    }
+
+    @Test
+    void testRebuild_WhenScanIsNotOrdered_ThenKeepReadingFromDatabase() {
+        UserBirthDateIndex index = index(true, 100);
+        scan(THIRD_ID, LocalDate.of(1991, 1, 1), FIRST_ID, LocalDate.of(1990, 1, 1));
+
+        index.rebuild();
+
+        assertThat(findIds(index, FROM, TO, null, 10)).isEqualTo(Optional.empty());
+    }
+
+    private UserBirthDateIndex loadedIndex(int compactionThreshold) {
+        return loadedIndex(compactionThreshold, Runnable::run);
+    }
+
+    private UserBirthDateIndex loadedIndex(int compactionThreshold, Executor compactionExecutor) {
+        UserBirthDateIndex index = index(true, compactionThreshold, compactionExecutor);
+        scan(FIRST_ID, LocalDate.of(1990, 1, 1),
+                SECOND_ID, LocalDate.of(1991, 1, 1),
+                THIRD_ID, LocalDate.of(1991, 1, 1),
+                FOURTH_ID, LocalDate.of(1999, 1, 1));
+        index.rebuild();
+
+        return index;
+    }
+
+    private UserBirthDateIndex index(boolean enabled, int compactionThreshold) {
+        return index(enabled, compactionThreshold, Runnable::run);
+    }
+
+    private UserBirthDateIndex index(boolean enabled, int compactionThreshold, Executor compactionExecutor) {
+        BirthDateIndexProperties properties = new BirthDateIndexProperties();
+        properties.setEnabled(enabled);
+        properties.setCompactionThreshold(compactionThreshold);
+
+        return new UserBirthDateIndex(userRepository, transactionManager, properties, compactionExecutor);
+    }
+
+    private Optional<List<UUID>> findIds(UserBirthDateIndex index, LocalDate from, LocalDate to,
+                                         UserPageCursor after, int limit) {
+        return index.findEntries(from, to, after, limit)
+                .map(entries -> entries.stream().map(UserPageCursor::id).toList());
+    }
+
+    private void scan(Object... rows) {
+        when(userRepository.count()).thenReturn((long) rows.length / 2);
+        doAnswer(invocation -> {
+            BiConsumer<UUID, LocalDate> consumer = invocation.getArgument(0);
+            for (int i = 0; i < rows.length; i += 2) {
+                consumer.accept((UUID) rows[i], (LocalDate) rows[i + 1]);
+            }
+            return null;
+        }).when(userRepository).scanBirthDates(any());
+    }
+}
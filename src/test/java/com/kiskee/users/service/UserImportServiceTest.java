@@ -0,0 +1,305 @@
+package com.kiskee.users.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.kiskee.users.config.properties.UserImportProperties;
+import com.kiskee.users.config.properties.UserProperties;
+import com.kiskee.users.exception.BulkConflictException;
+import com.kiskee.users.exception.DuplicateResourceException;
+import com.kiskee.users.exception.ImportCapacityExceededException;
+import com.kiskee.users.exception.ImportInProgressException;
+import com.kiskee.users.exception.ImportJobNotFoundException;
+import com.kiskee.users.model.dto.BulkResponseDto;
+import com.kiskee.users.model.dto.ResponseDto;
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.model.dto.user.bulk.UserCreateResult;
+import com.kiskee.users.model.dto.user.bulk.UserCreateStatus;
+import com.kiskee.users.model.dto.user.imports.UserImportFormat;
+import com.kiskee.users.model.dto.user.imports.UserImportJobDto;
+import com.kiskee.users.model.dto.user.imports.UserImportStatus;
+import com.kiskee.users.service.user.UserService;
+import com.kiskee.users.service.user.imports.UserImportExecutor;
+import com.kiskee.users.service.user.imports.UserImportServiceImpl;
+import com.kiskee.users.util.ExceptionMessage;
+import com.kiskee.users.web.validator.UserRequestValidator;
+import jakarta.validation.Validation;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UserImportServiceTest {
+
+    private UserImportServiceImpl userImportService;
+    @Mock
+    private UserService userService;
+    @Mock
+    private UserImportExecutor userImportExecutor;
+
+    private static final int MAX_LINE_LENGTH = 200;
+    private static final String CSV_HEADER = "email,firstName,lastName,birthDate,address,phoneNumber\n";
+
+    @BeforeEach
+    void setUp() {
+        userImportService = createService(Duration.ofHours(1));
+    }
+
+    @Test
+    void testSubmitImport_WhenCsvRowsAreValid_ThenImportThemInBatches() {
+        runJobsInline();
+        when(userService.createUsers(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        UserImportJobDto job = submit("users.csv", CSV_HEADER
+                + "one@google.com,John,Doe,1990-02-13,some address,380999999999\n"
+                + "two@google.com,Jane,Doe,1991-02-13,,\n"
+                + "three@google.com,Jack,Doe,1992-02-13,,\n");
+
+        UserImportJobDto finishedJob = userImportService.getImport(job.getId()).getData();
+
+        assertThat(finishedJob.getStatus()).isEqualTo(UserImportStatus.COMPLETED);
+        assertThat(finishedJob.getFormat()).isEqualTo(UserImportFormat.CSV);
+        assertThat(finishedJob.getProcessedRows()).isEqualTo(3);
+        assertThat(finishedJob.getImportedRows()).isEqualTo(3);
+        assertThat(finishedJob.getRejectedRows()).isZero();
+        verify(userService).createUsers(List.of(
+                new UserCreateRequest("one@google.com", "John", "Doe", LocalDate.of(1990, 2, 13), "some address",
+                        "380999999999"),
+                new UserCreateRequest("two@google.com", "Jane", "Doe", LocalDate.of(1991, 2, 13), null, null)));
+        verify(userService).createUsers(List.of(
+                new UserCreateRequest("three@google.com", "Jack", "Doe", LocalDate.of(1992, 2, 13), null, null)));
+    }
+
+    @Test
+    void testSubmitImport_WhenRowsAreInvalidOrRejected_ThenWriteThemToRejectionReport() {
+        runJobsInline();
+        when(userService.createUsers(anyList())).thenAnswer(invocation -> {
+            List<UserCreateRequest> requests = invocation.getArgument(0);
+            return new BulkResponseDto(List.of(
+                    new UserCreateResult(0, requests.get(0).getEmail(), UserCreateStatus.CREATED, null),
+                    new UserCreateResult(1, requests.get(1).getEmail(), UserCreateStatus.DUPLICATE, null)));
+        });
+
+        UserImportJobDto job = submit("users.csv", CSV_HEADER
+                + "one@google.com,John,Doe,1990-02-13,,\n"
+                + "not-an-email,,Doe,1990-02-13,,\n"
+                + "two@google.com,Jane,Doe,13.02.1991,,\n"
+                + "one@google.com,Jack,Doe,1992-02-13,,\n");
+
+        UserImportJobDto finishedJob = userImportService.getImport(job.getId()).getData();
+
+        assertThat(finishedJob.getStatus()).isEqualTo(UserImportStatus.COMPLETED);
+        assertThat(finishedJob.getImportedRows()).isEqualTo(1);
+        assertThat(finishedJob.getRejectedRows()).isEqualTo(3);
+        assertThat(readReport(job.getId())).isEqualTo("row,email,reason\n"
+                + "2,not-an-email,\"email: " + ExceptionMessage.INVALID_EMAIL + "; firstName: "
+                + ExceptionMessage.MUST_NOT_BE_BLANK + "\"\n"
+                + "3,two@google.com,\"birthDate: " + ExceptionMessage.INVALID_DATE_FORMAT + "\"\n"
+                + "4,one@google.com,\"" + String.format(ExceptionMessage.USER_ALREADY_EXISTS, "one@google.com")
+                + "\"\n");
+    }
+
+    @Test
+    void testSubmitImport_WhenBatchConflictsWithConcurrentWrites_ThenRetryRowByRow() {
+        runJobsInline();
+        when(userService.createUsers(anyList())).thenThrow(new BulkConflictException());
+        when(userService.createUser(any())).thenAnswer(invocation -> {
+            UserCreateRequest request = invocation.getArgument(0);
+            if (request.getEmail().equals("two@google.com")) {
+                throw new DuplicateResourceException(request.getEmail());
+            }
+            return mock(ResponseDto.class);
+        });
+
+        UserImportJobDto job = submit("users.csv", CSV_HEADER
+                + "one@google.com,John,Doe,1990-02-13,,\n"
+                + "two@google.com,Jane,Doe,1991-02-13,,\n");
+
+        UserImportJobDto finishedJob = userImportService.getImport(job.getId()).getData();
+
+        assertThat(finishedJob.getImportedRows()).isEqualTo(1);
+        assertThat(finishedJob.getRejectedRows()).isEqualTo(1);
+        assertThat(readReport(job.getId())).isEqualTo("row,email,reason\n"
+                + "2,two@google.com,\"" + String.format(ExceptionMessage.USER_ALREADY_EXISTS, "two@google.com")
+                + "\"\n");
+    }
+
+    @Test
+    void testSubmitImport_WhenNdjsonContainsMalformedLine_ThenRejectItAndImportTheRest() {
+        runJobsInline();
+        when(userService.createUsers(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        UserImportJobDto job = submit("users.ndjson", """
+                {"email":"one@google.com","firstName":"John","lastName":"Doe","birthDate":"1990-02-13"}
+
+                {"email":"two@google.com",
+                {"email":"three@google.com","firstName":"Jack","lastName":"Doe","birthDate":"1992-02-13"}
+                """);
+
+        UserImportJobDto finishedJob = userImportService.getImport(job.getId()).getData();
+
+        assertThat(finishedJob.getStatus()).isEqualTo(UserImportStatus.COMPLETED);
+        assertThat(finishedJob.getFormat()).isEqualTo(UserImportFormat.NDJSON);
+        assertThat(finishedJob.getImportedRows()).isEqualTo(2);
+        assertThat(finishedJob.getRejectedRows()).isEqualTo(1);
+        assertThat(readReport(job.getId())).startsWith("row,email,reason\n2,,\"Malformed row: ");
+    }
+
+    @Test
+    void testSubmitImport_WhenNdjsonLineIsTooLong_ThenRejectItAndImportTheRest() {
+        runJobsInline();
+        when(userService.createUsers(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        UserImportJobDto job = submit("users.ndjson", "{\"email\":\"" + "a".repeat(MAX_LINE_LENGTH)
+                + "@google.com\"}\r\n"
+                + "{\"email\":\"one@google.com\",\"firstName\":\"John\",\"lastName\":\"Doe\","
+                + "\"birthDate\":\"1990-02-13\"}\r\n");
+
+        UserImportJobDto finishedJob = userImportService.getImport(job.getId()).getData();
+
+        assertThat(finishedJob.getStatus()).isEqualTo(UserImportStatus.COMPLETED);
+        assertThat(finishedJob.getImportedRows()).isEqualTo(1);
+        assertThat(finishedJob.getRejectedRows()).isEqualTo(1);
+        assertThat(readReport(job.getId())).isEqualTo("row,email,reason\n1,,\""
+                + String.format(ExceptionMessage.IMPORT_ROW_TOO_LONG, MAX_LINE_LENGTH) + "\"\n");
+    }
+
+    @Test
+    void testGetImport_WhenRetentionHasPassedForRunningJob_ThenKeepIt() {
+        userImportService = createService(Duration.ZERO);
+
+        UserImportJobDto job = submit("users.csv", CSV_HEADER);
+
+        assertThat(userImportService.getImport(job.getId()).getData().getStatus())
+                .isEqualTo(UserImportStatus.PENDING);
+    }
+
+    @Test
+    void testGetImport_WhenRetentionHasPassedForFinishedJob_ThenThrowException() {
+        userImportService = createService(Duration.ZERO);
+        runJobsInline();
+
+        UserImportJobDto job = submit("users.csv", CSV_HEADER);
+
+        assertThatExceptionOfType(ImportJobNotFoundException.class)
+                .isThrownBy(() -> userImportService.getImport(job.getId()));
+    }
+
+    @Test
+    void testSubmitImport_WhenCsvHeaderMissesRequiredColumns_ThenFailJob() {
+        runJobsInline();
+
+        UserImportJobDto job = submit("users.csv", "email,firstName\none@google.com,John\n");
+
+        UserImportJobDto finishedJob = userImportService.getImport(job.getId()).getData();
+
+        assertThat(finishedJob.getStatus()).isEqualTo(UserImportStatus.FAILED);
+        assertThat(finishedJob.getError())
+                .isEqualTo(String.format(ExceptionMessage.MISSING_IMPORT_COLUMNS, "lastName, birthDate"));
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void testSubmitImport_WhenFormatIsNotSupported_ThenThrowException() {
+        MockMultipartFile file = new MockMultipartFile("file", "users.xlsx", "application/octet-stream",
+                new byte[]{1});
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> userImportService.submitImport(file))
+                .withMessage(ExceptionMessage.UNSUPPORTED_IMPORT_FORMAT);
+
+        verifyNoInteractions(userImportExecutor);
+    }
+
+    @Test
+    void testSubmitImport_WhenExecutorIsFull_ThenThrowException() {
+        doThrow(new ImportCapacityExceededException()).when(userImportExecutor).execute(any());
+
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv",
+                CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+
+        assertThatExceptionOfType(ImportCapacityExceededException.class)
+                .isThrownBy(() -> userImportService.submitImport(file));
+    }
+
+    @Test
+    void testGetRejectionReport_WhenJobIsStillRunning_ThenThrowException() {
+        UserImportJobDto job = submit("users.csv", CSV_HEADER);
+
+        assertThat(job.getStatus()).isEqualTo(UserImportStatus.PENDING);
+        assertThatExceptionOfType(ImportInProgressException.class)
+                .isThrownBy(() -> userImportService.getRejectionReport(job.getId()))
+                .withMessage(String.format(ExceptionMessage.IMPORT_IN_PROGRESS, job.getId()));
+    }
+
+    @Test
+    void testGetImport_WhenJobDoesNotExist_ThenThrowException() {
+        UUID jobId = UUID.randomUUID();
+
+        assertThatExceptionOfType(ImportJobNotFoundException.class)
+                .isThrownBy(() -> userImportService.getImport(jobId))
+                .withMessage(String.format(ExceptionMessage.IMPORT_JOB_NOT_FOUND, jobId));
+    }
+
+    private UserImportServiceImpl createService(Duration jobRetention) {
+        UserImportProperties userImportProperties = new UserImportProperties();
+        userImportProperties.setBatchSize(2);
+        userImportProperties.setJobRetention(jobRetention);
+        userImportProperties.setMaxLineLength(MAX_LINE_LENGTH);
+        UserProperties userProperties = new UserProperties();
+        userProperties.setMaxBulkSize(1000);
+
+        Clock clock = Clock.systemUTC();
+
+        UserRequestValidator userRequestValidator = new UserRequestValidator(clock,
+                Validation.buildDefaultValidatorFactory().getValidator());
+
+        return new UserImportServiceImpl(userService, userRequestValidator, userImportExecutor,
+                JsonMapper.builder().findAndAddModules().build(), clock, userImportProperties, userProperties);
+    }
+
+    private void runJobsInline() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(userImportExecutor).execute(any());
+    }
+
+    private UserImportJobDto submit(String fileName, String content) {
+        return userImportService.submitImport(new MockMultipartFile("file", fileName, null,
+                content.getBytes(StandardCharsets.UTF_8))).getData();
+    }
+
+    @SneakyThrows
+    private String readReport(UUID jobId) {
+        return userImportService.getRejectionReport(jobId).getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private BulkResponseDto created(List<UserCreateRequest> requests) {
+        return new BulkResponseDto(IntStream.range(0, requests.size())
+                .mapToObj(index -> new UserCreateResult(index, requests.get(index).getEmail(),
+                        UserCreateStatus.CREATED, null))
+                .toList());
+    }
+}
@@ -0,0 +1,139 @@
+package com.kiskee.users.service;
+
+import com.kiskee.users.config.CacheConfig;
+import com.kiskee.users.config.properties.UserProperties;
+import com.kiskee.users.mapper.UserMapper;
+import com.kiskee.users.model.dto.ResponseDto;
+import com.kiskee.users.model.dto.user.UserDto;
+import com.kiskee.users.model.dto.user.UserPartialUpdateRequestDto;
+import com.kiskee.users.model.entity.User;
+import com.kiskee.users.repository.UserRepository;
+import com.kiskee.users.service.user.RecentUserWrites;
+import com.kiskee.users.service.user.UserBirthDateIndex;
+import com.kiskee.users.service.user.UserMetrics;
+import com.kiskee.users.service.user.UserService;
+import com.kiskee.users.service.user.UserServiceImpl;
+import com.kiskee.users.service.user.UserValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+public class UserServiceCacheTest {
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private CacheManager cacheManager;
+    @MockBean
+    private UserRepository userRepository;
+    @MockBean
+    private UserMapper userMapper;
+    @MockBean
+    private UserValidator userValidator;
+    @MockBean
+    private UserProperties userProperties;
+    @MockBean
+    private RecentUserWrites recentUserWrites;
+    @MockBean
+    private UserMetrics userMetrics;
+    @MockBean
+    private UserBirthDateIndex userBirthDateIndex;
+
+    private static final UUID USER_ID = UUID.fromString("e85bcd9a-00ed-45d3-87c9-ac0c8ad68203");
+
+    private final UserDto userDto = new UserDto(USER_ID, "email@google.com", "John", "Doe",
+            LocalDate.of(1990, 2, 13), "some address", "380999999999", 0L);
+
+    @BeforeEach
+    public void setup() {
+        cacheManager.getCache(CacheConfig.USERS_CACHE).clear();
+
+        when(userRepository.findDtoById(USER_ID)).thenReturn(Optional.of(userDto));
+    }
+
+    @Test
+    void testGetUser_WhenCalledTwice_ThenSecondCallIsServedFromCache() {
+        ResponseDto first = userService.getUser(USER_ID);
+        ResponseDto second = userService.getUser(USER_ID);
+
+        assertThat(second).isEqualTo(first);
+        verify(userRepository, times(1)).findDtoById(USER_ID);
+    }
+
+    @Test
+    void testUpdateUser_WhenUserIsCached_ThenRefreshCacheEntry() {
+        userService.getUser(USER_ID);
+
+        UserPartialUpdateRequestDto updateRequest = new UserPartialUpdateRequestDto("new@google.com",
+                null, null, null, null, null);
+        UserDto updatedDto = new UserDto(USER_ID, "new@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), "some address", "380999999999", 0L);
+        User updatedUser = new User(USER_ID, "new@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), "some address", "380999999999", 0L);
+        when(userRepository.updateNonNullFields(USER_ID, updateRequest, null)).thenReturn(Optional.of(updatedUser));
+        when(userMapper.toDto(updatedUser)).thenReturn(updatedDto);
+
+        userService.updateUser(USER_ID, updateRequest, null);
+        ResponseDto result = userService.getUser(USER_ID);
+
+        assertThat(result.getData()).isEqualTo(updatedDto);
+        verify(userRepository, times(1)).findDtoById(USER_ID);
+    }
+
+    @Test
+    void testDeleteUser_WhenUserIsCached_ThenEvictCacheEntry() {
+        userService.getUser(USER_ID);
+        when(userRepository.deleteUserById(USER_ID)).thenReturn(1);
+
+        userService.deleteUser(USER_ID, null);
+
+        assertThat(cacheManager.getCache(CacheConfig.USERS_CACHE).get(USER_ID)).isNull();
+    }
+
+    @Test
+    void testDeleteUsers_WhenOtherUsersAreCached_ThenEvictOnlyDeletedUsers() {
+        UUID otherUserId = UUID.fromString("0b1c7a3e-5d5f-4d3a-9a8e-2f0f7d9b1c11");
+        UserDto otherUserDto = new UserDto(otherUserId, "other@google.com", "Jane", "Doe",
+                LocalDate.of(1991, 2, 13), null, null, 0L);
+        when(userRepository.findDtoById(otherUserId)).thenReturn(Optional.of(otherUserDto));
+        userService.getUser(USER_ID);
+        userService.getUser(otherUserId);
+        when(userRepository.deleteUsersByIds(Set.of(USER_ID))).thenReturn(1);
+
+        userService.deleteUsers(List.of(USER_ID));
+
+        Cache cache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        assertThat(cache.get(USER_ID)).isNull();
+        assertThat(cache.get(otherUserId)).isNotNull();
+    }
+
+    @Configuration
+    @Import({CacheConfig.class, UserServiceImpl.class})
+    static class CacheTestConfig {
+
+        @Bean
+        public CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CacheConfig.USERS_CACHE);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.kiskee.users.service;
+
+import com.kiskee.users.config.ClockConfig;
+import com.kiskee.users.config.properties.BirthDateIndexProperties;
+import com.kiskee.users.config.properties.UserProperties;
+import com.kiskee.users.exception.DuplicateResourceException;
+import com.kiskee.users.mapper.UserMapperImpl;
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.repository.UserRepository;
+import com.kiskee.users.service.user.RecentUserWrites;
+import com.kiskee.users.service.user.UserBirthDateIndex;
+import com.kiskee.users.service.user.UserMetrics;
+import com.kiskee.users.service.user.UserService;
+import com.kiskee.users.service.user.UserServiceImpl;
+import com.kiskee.users.service.user.UserValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({UserServiceImpl.class, UserValidator.class, UserProperties.class, UserMapperImpl.class,
+        RecentUserWrites.class, UserMetrics.class, SimpleMeterRegistry.class, ClockConfig.class,
+        UserBirthDateIndex.class, BirthDateIndexProperties.class, NoOpCacheManager.class})
+public class UserServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int EMAILS = 5;
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    public void cleanup() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @SneakyThrows
+    void testCreateUser_WhenSameEmailIsRegisteredConcurrently_ThenExactlyOneWinnerPerEmail() {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+
+        for (int email = 0; email < EMAILS; email++) {
+            UserCreateRequest createRequest = new UserCreateRequest("email" + email + "@google.com", "John", "Doe",
+                    LocalDate.of(1990, 2, 13), null, null);
+
+            for (int thread = 0; thread < THREADS; thread++) {
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        userService.createUser(createRequest);
+                        return true;
+                    } catch (DuplicateResourceException e) {
+                        return false;
+                    }
+                }));
+            }
+        }
+        start.countDown();
+
+        int winners = 0;
+        for (Future<Boolean> attempt : attempts) {
+            if (attempt.get()) {
+                winners++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(winners).isEqualTo(EMAILS);
+        assertThat(userRepository.count()).isEqualTo(EMAILS);
+        assertThat(outcomeCount(UserMetrics.Outcome.CREATED)).isEqualTo(EMAILS);
+        assertThat(outcomeCount(UserMetrics.Outcome.DUPLICATE)).isEqualTo(EMAILS * (THREADS - 1));
+    }
+
+    private double outcomeCount(UserMetrics.Outcome outcome) {
+        return meterRegistry.get(UserMetrics.OUTCOMES)
+                .tag(UserMetrics.OUTCOME_TAG, outcome.getTag())
+                .counter()
+                .count();
+    }
+}
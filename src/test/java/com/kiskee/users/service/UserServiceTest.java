@@ -1,16 +1,32 @@
 package com.kiskee.users.service;
 
+import com.kiskee.users.config.CacheConfig;
+import com.kiskee.users.config.datasource.ReadWriteRoutingDataSource;
+import com.kiskee.users.config.properties.UserProperties;
+import com.kiskee.users.exception.BulkConflictException;
 import com.kiskee.users.exception.DuplicateResourceException;
+import com.kiskee.users.exception.PreconditionFailedException;
 import com.kiskee.users.exception.RegistrationRestrictionException;
 import com.kiskee.users.exception.ResourceNotFoundException;
 import com.kiskee.users.mapper.UserMapper;
+import com.kiskee.users.model.dto.BulkResponseDto;
+import com.kiskee.users.model.dto.DeleteResponseDto;
+import com.kiskee.users.model.dto.MultiGetResponseDto;
 import com.kiskee.users.model.dto.MultipleResponseDto;
 import com.kiskee.users.model.dto.ResponseDto;
 import com.kiskee.users.model.dto.user.UserCreateRequest;
 import com.kiskee.users.model.dto.user.UserDto;
+import com.kiskee.users.model.dto.user.UserPageCursor;
+import com.kiskee.users.model.dto.user.UserPartialUpdateRequestDto;
+import com.kiskee.users.model.dto.user.UserSearchCursor;
 import com.kiskee.users.model.dto.user.UserUpdateRequestDto;
+import com.kiskee.users.model.dto.user.bulk.UserCreateResult;
+import com.kiskee.users.model.dto.user.bulk.UserCreateStatus;
 import com.kiskee.users.model.entity.User;
 import com.kiskee.users.repository.UserRepository;
+import com.kiskee.users.service.user.RecentUserWrites;
+import com.kiskee.users.service.user.UserBirthDateIndex;
+import com.kiskee.users.service.user.UserMetrics;
 import com.kiskee.users.service.user.UserServiceImpl;
 import com.kiskee.users.service.user.UserValidator;
 import com.kiskee.users.util.ExceptionMessage;
@@ -19,16 +35,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -45,6 +71,18 @@ public class UserServiceTest {
     private UserMapper userMapper;
     @Mock
     private UserValidator userValidator;
+    @Mock
+    private UserProperties userProperties;
+    @Mock
+    private RecentUserWrites recentUserWrites;
+    @Mock
+    private UserMetrics userMetrics;
+    @Mock
+    private UserBirthDateIndex userBirthDateIndex;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private Cache cache;
 
     private static final UUID USER_ID = UUID.fromString("e85bcd9a-00ed-45d3-87c9-ac0c8ad68203");
 
@@ -53,18 +91,17 @@ public class UserServiceTest {
         UserCreateRequest createRequest = new UserCreateRequest("email@google.com", "John", "Doe",
                 LocalDate.of(1990, 2, 13), "some address", "380999999999");
 
-        when(userRepository.existsByEmail(createRequest.getEmail())).thenReturn(false);
-
         User user = mock(User.class);
         when(userMapper.toEntityOpt(createRequest)).thenReturn(Optional.of(user));
-        when(userRepository.save(user)).thenReturn(user);
+        when(userRepository.saveAndFlush(user)).thenReturn(user);
         UserDto createdUser = new UserDto(USER_ID, createRequest.getEmail(), createRequest.getFirstName(), createRequest.getLastName(),
-                createRequest.getBirthDate(), createRequest.getAddress(), createRequest.getPhoneNumber());
+                createRequest.getBirthDate(), createRequest.getAddress(), createRequest.getPhoneNumber(), 0L);
         when(userMapper.toDto(user)).thenReturn(createdUser);
 
         ResponseDto result = userService.createUser(createRequest);
 
         verify(userValidator).validateRegistrationRequest(createRequest);
+        verify(userMetrics).record(UserMetrics.Outcome.CREATED);
 
         assertThat(result.getData()).isEqualTo(createdUser);
     }
@@ -74,15 +111,17 @@ public class UserServiceTest {
         UserCreateRequest createRequest = new UserCreateRequest("email@google.com", "John", "Doe",
                 LocalDate.of(1990, 2, 13), "some address", "380999999999");
 
-        when(userRepository.existsByEmail(createRequest.getEmail())).thenReturn(true);
+        User user = mock(User.class);
+        when(userMapper.toEntityOpt(createRequest)).thenReturn(Optional.of(user));
+        when(userRepository.saveAndFlush(user)).thenThrow(new DataIntegrityViolationException("users_email_key"));
 
         assertThatExceptionOfType(DuplicateResourceException.class)
                 .isThrownBy(() -> userService.createUser(createRequest))
                 .withMessage(String.format(ExceptionMessage.USER_ALREADY_EXISTS, createRequest.getEmail()));
 
         verify(userValidator).validateRegistrationRequest(createRequest);
-        verifyNoMoreInteractions(userRepository);
-        verifyNoInteractions(userMapper);
+        verify(userMapper, never()).toDto(user);
+        verify(userMetrics).record(UserMetrics.Outcome.DUPLICATE);
     }
 
     @Test
@@ -96,29 +135,158 @@ public class UserServiceTest {
         assertThatExceptionOfType(RegistrationRestrictionException.class)
                 .isThrownBy(() -> userService.createUser(createRequest))
                 .withMessage(ExceptionMessage.USER_REGISTRATION_RESTRICTION);
+
+        verify(userMetrics).record(UserMetrics.Outcome.UNDERAGE);
     }
 
     @Test
-    void testGetUser_WhenUserExists_ThenReturnUser() {
-        User user = mock(User.class);
-        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+    void testCreateUsers_WhenGivenMixedRequests_ThenReturnPerItemResults() {
+        UserCreateRequest newRequest = new UserCreateRequest("new@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null);
+        UserCreateRequest existingRequest = new UserCreateRequest("existing@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null);
+        UserCreateRequest repeatedRequest = new UserCreateRequest("new@google.com", "Jane", "Doe",
+                LocalDate.of(1991, 2, 13), null, null);
+        UserCreateRequest underageRequest = new UserCreateRequest("young@google.com", "John", "Doe",
+                LocalDate.of(2014, 2, 13), null, null);
+        List<UserCreateRequest> createRequests = List.of(newRequest, existingRequest, repeatedRequest, underageRequest);
+
+        when(userRepository.findExistingEmails(Set.of("new@google.com", "existing@google.com", "young@google.com")))
+                .thenReturn(Set.of("existing@google.com"));
+        when(userValidator.isRegistrationAllowed(any(UserCreateRequest.class))).thenReturn(true);
+        when(userValidator.isRegistrationAllowed(underageRequest)).thenReturn(false);
+
+        User user = new User(USER_ID, newRequest.getEmail(), newRequest.getFirstName(), newRequest.getLastName(),
+                newRequest.getBirthDate(), null, null, 0L);
+        when(userMapper.toEntity(newRequest)).thenReturn(user);
+        when(userRepository.saveAllAndFlush(List.of(user))).thenReturn(List.of(user));
+        UserDto userDto = mock(UserDto.class);
+        when(userMapper.toDto(user)).thenReturn(userDto);
+
+        BulkResponseDto result = userService.createUsers(createRequests);
 
+        verify(userValidator).validateBulkSize(createRequests.size());
+        assertThat(result.getData()).containsExactly(
+                new UserCreateResult(0, "new@google.com", UserCreateStatus.CREATED, userDto),
+                new UserCreateResult(1, "existing@google.com", UserCreateStatus.DUPLICATE, null),
+                new UserCreateResult(2, "new@google.com", UserCreateStatus.DUPLICATE, null),
+                new UserCreateResult(3, "young@google.com", UserCreateStatus.UNDERAGE, null));
+    }
+
+    @Test
+    void testCreateUsers_WhenEmailIsRegisteredConcurrently_ThenThrowBulkConflictException() {
+        UserCreateRequest createRequest = new UserCreateRequest("new@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null);
+        User user = new User(USER_ID, createRequest.getEmail(), createRequest.getFirstName(),
+                createRequest.getLastName(), createRequest.getBirthDate(), null, null, 0L);
+
+        when(userRepository.findExistingEmails(Set.of("new@google.com"))).thenReturn(Set.of());
+        when(userValidator.isRegistrationAllowed(createRequest)).thenReturn(true);
+        when(userMapper.toEntity(createRequest)).thenReturn(user);
+        when(userRepository.saveAllAndFlush(List.of(user)))
+                .thenThrow(new DataIntegrityViolationException("users_email_key"));
+
+        assertThatExceptionOfType(BulkConflictException.class)
+                .isThrownBy(() -> userService.createUsers(List.of(createRequest)))
+                .withMessage(ExceptionMessage.BULK_CONFLICT);
+
+        verify(userMetrics).record(UserMetrics.Outcome.DUPLICATE);
+        verifyNoInteractions(recentUserWrites, userBirthDateIndex);
+    }
+
+    @Test
+    void testCreateUsers_WhenBulkIsTooLarge_ThenThrowIllegalArgumentException() {
+        List<UserCreateRequest> createRequests = List.of(mock(UserCreateRequest.class));
+
+        doThrow(new IllegalArgumentException(String.format(ExceptionMessage.INVALID_BULK_SIZE, 0)))
+                .when(userValidator).validateBulkSize(createRequests.size());
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> userService.createUsers(createRequests))
+                .withMessage(String.format(ExceptionMessage.INVALID_BULK_SIZE, 0));
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void testGetUser_WhenUserExists_ThenReturnUser() {
         UserDto userDto = mock(UserDto.class);
         when(userDto.getId()).thenReturn(USER_ID);
-        when(userMapper.toDto(user)).thenReturn(userDto);
+        when(userRepository.findDtoById(USER_ID)).thenReturn(Optional.of(userDto));
 
         ResponseDto result = userService.getUser(USER_ID);
 
         assertThat(result.getData().getId()).isEqualTo(USER_ID);
+        verifyNoInteractions(userMapper);
+    }
+
+    @Test
+    void testGetUser_WhenUserWasRecentlyWritten_ThenReadFromPrimary() {
+        UserDto userDto = mock(UserDto.class);
+        when(recentUserWrites.contains(USER_ID)).thenReturn(true);
+        when(userRepository.findDtoById(USER_ID)).thenAnswer(invocation -> {
+            assertThat(ReadWriteRoutingDataSource.isPrimaryForced()).isTrue();
+            return Optional.of(userDto);
+        });
+
+        ResponseDto result = userService.getUser(USER_ID);
+
+        assertThat(result.getData()).isEqualTo(userDto);
+        assertThat(ReadWriteRoutingDataSource.isPrimaryForced()).isFalse();
     }
 
     @Test
     void testGetUser_WhenUserDoesNotExist_ThenThrowResourceNotFoundException() {
-        when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
+        when(userRepository.findDtoById(USER_ID)).thenReturn(Optional.empty());
 
         assertThatExceptionOfType(ResourceNotFoundException.class)
                 .isThrownBy(() -> userService.getUser(USER_ID))
                 .withMessage(String.format(ExceptionMessage.USER_NOT_FOUND, USER_ID));
+
+        verify(userMetrics).record(UserMetrics.Outcome.NOT_FOUND);
+    }
+
+    @Test
+    void testGetUsers_WhenSomeUsersDoNotExist_ThenReturnFoundUsersInRequestOrderAndMissingIds() {
+        UUID missingId = UUID.fromString("5f0c7c83-3c9a-4f36-9d4e-0a8a3e1d2b44");
+        UserDto first = new UserDto(USER_ID, "email@google.com", "John", "Doe",
+                LocalDate.of(1990, 2, 13), null, null, 0L);
+        UserDto second = new UserDto(UUID.fromString("9a7b2f1e-6d3c-4b8a-a1e2-3c4d5e6f7a8b"), "second@google.com",
+                "Jane", "Doe", LocalDate.of(1991, 2, 13), null, null, 0L);
+        when(userRepository.findDtosByIds(Set.of(USER_ID, missingId, second.getId())))
+                .thenReturn(List.of(second, first));
+
+        MultiGetResponseDto result = userService.getUsers(List.of(USER_ID, missingId, second.getId(), USER_ID));
+
+        verify(userValidator).validateMultiGetSize(4);
+        assertThat(result.getData()).containsExactly(first, second);
+        assertThat(result.getMissingIds()).containsExactly(missingId);
+    }
+
+    @Test
+    void testGetUsers_WhenUserWasRecentlyWritten_ThenReadFromPrimary() {
+        when(recentUserWrites.contains(USER_ID)).thenReturn(true);
+        when(userRepository.findDtosByIds(Set.of(USER_ID))).thenAnswer(invocation -> {
+            assertThat(ReadWriteRoutingDataSource.isPrimaryForced()).isTrue();
+            return List.of();
+        });
+
+        MultiGetResponseDto result = userService.getUsers(List.of(USER_ID));
+
+        assertThat(result.getData()).isEmpty();
+        assertThat(result.getMissingIds()).containsExactly(USER_ID);
+    }
+
+    @Test
+    void testGetUsers_WhenTooManyIds_ThenThrowIllegalArgumentException() {
+        List<UUID> ids = List.of(USER_ID);
+        doThrow(new IllegalArgumentException(String.format(ExceptionMessage.INVALID_MULTI_GET_SIZE, 0)))
+                .when(userValidator).validateMultiGetSize(1);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> userService.getUsers(ids));
+
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -127,47 +295,141 @@ public class UserServiceTest {
                 LocalDate.of(1990, 2, 13), "some address", "380999999999");
 
         User user = mock(User.class);
-        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
-        when(userMapper.updateEntity(user, updateRequest)).thenReturn(user);
-        when(userRepository.save(user)).thenReturn(user);
+        when(userRepository.updateNonNullFields(USER_ID, updateRequest, null)).thenReturn(Optional.of(user));
 
         UserDto userDto = mock(UserDto.class);
         when(userDto.getId()).thenReturn(USER_ID);
         when(userDto.getEmail()).thenReturn(updateRequest.getEmail());
         when(userMapper.toDto(user)).thenReturn(userDto);
 
-        ResponseDto result = userService.updateUser(USER_ID, updateRequest);
+        ResponseDto result = userService.updateUser(USER_ID, updateRequest, null);
 
         assertThat(result.getData().getId()).isEqualTo(USER_ID);
         assertThat(result.getData().getEmail()).isEqualTo(updateRequest.getEmail());
+        verify(recentUserWrites).record(USER_ID);
+    }
+
+    @Test
+    void testUpdateUser_WhenUserDoesNotExist_ThenThrowResourceNotFoundException() {
+        UserPartialUpdateRequestDto updateRequest = new UserPartialUpdateRequestDto(null, "John",
+                null, null, null, null);
+
+        when(userRepository.updateNonNullFields(USER_ID, updateRequest, null)).thenReturn(Optional.empty());
+
+        assertThatExceptionOfType(ResourceNotFoundException.class)
+                .isThrownBy(() -> userService.updateUser(USER_ID, updateRequest, null))
+                .withMessage(String.format(ExceptionMessage.USER_NOT_FOUND, USER_ID));
+    }
+
+    @Test
+    void testUpdateUser_WhenExpectedVersionIsStale_ThenThrowPreconditionFailedException() {
+        UserPartialUpdateRequestDto updateRequest = new UserPartialUpdateRequestDto(null, "John",
+                null, null, null, null);
+
+        when(userRepository.updateNonNullFields(USER_ID, updateRequest, Set.of(3L))).thenReturn(Optional.empty());
+        when(userRepository.existsById(USER_ID)).thenReturn(true);
+
+        assertThatExceptionOfType(PreconditionFailedException.class)
+                .isThrownBy(() -> userService.updateUser(USER_ID, updateRequest, Set.of(3L)))
+                .withMessage(String.format(ExceptionMessage.USER_VERSION_MISMATCH, USER_ID));
+
+        verifyNoInteractions(userMetrics);
+    }
+
+    @Test
+    void testUpdateUser_WhenExpectedVersionGivenAndUserDoesNotExist_ThenThrowResourceNotFoundException() {
+        UserPartialUpdateRequestDto updateRequest = new UserPartialUpdateRequestDto(null, "John",
+                null, null, null, null);
+
+        when(userRepository.updateNonNullFields(USER_ID, updateRequest, Set.of(3L))).thenReturn(Optional.empty());
+        when(userRepository.existsById(USER_ID)).thenReturn(false);
+
+        assertThatExceptionOfType(ResourceNotFoundException.class)
+                .isThrownBy(() -> userService.updateUser(USER_ID, updateRequest, Set.of(3L)))
+                .withMessage(String.format(ExceptionMessage.USER_NOT_FOUND, USER_ID));
+    }
+
+    @Test
+    void testUpdateUser_WhenEmailIsTaken_ThenThrowDuplicateResourceException() {
+        UserPartialUpdateRequestDto updateRequest = new UserPartialUpdateRequestDto("taken@google.com", null,
+                null, null, null, null);
+
+        when(userRepository.updateNonNullFields(USER_ID, updateRequest, null))
+                .thenThrow(new DataIntegrityViolationException("users_email_key"));
+
+        assertThatExceptionOfType(DuplicateResourceException.class)
+                .isThrownBy(() -> userService.updateUser(USER_ID, updateRequest, null))
+                .withMessage(String.format(ExceptionMessage.USER_ALREADY_EXISTS, updateRequest.getEmail()));
     }
 
     @Test
     void testDeleteUser_WhenUserExists_ThenDeleteUser() {
-        User user = mock(User.class);
-        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(userRepository.deleteUserById(USER_ID)).thenReturn(1);
 
-        userService.deleteUser(USER_ID);
+        userService.deleteUser(USER_ID, null);
 
-        verify(userRepository).delete(user);
+        verify(userRepository).deleteUserById(USER_ID);
+        verify(userRepository, never()).findById(USER_ID);
+        verify(userBirthDateIndex).remove(USER_ID);
+    }
+
+    @Test
+    void testDeleteUser_WhenExpectedVersionIsStale_ThenThrowPreconditionFailedException() {
+        when(userRepository.deleteUserByIdAndVersions(USER_ID, Set.of(3L))).thenReturn(0);
+        when(userRepository.existsById(USER_ID)).thenReturn(true);
+
+        assertThatExceptionOfType(PreconditionFailedException.class)
+                .isThrownBy(() -> userService.deleteUser(USER_ID, Set.of(3L)))
+                .withMessage(String.format(ExceptionMessage.USER_VERSION_MISMATCH, USER_ID));
+
+        verify(userRepository, never()).deleteUserById(USER_ID);
     }
 
     @Test
     void testDeleteUser_WhenUserDoesNotExist_ThenThrowResourceNotFoundException() {
-        when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
+        when(userRepository.deleteUserById(USER_ID)).thenReturn(0);
 
         assertThatExceptionOfType(ResourceNotFoundException.class)
-                .isThrownBy(() -> userService.deleteUser(USER_ID))
+                .isThrownBy(() -> userService.deleteUser(USER_ID, null))
                 .withMessage(String.format(ExceptionMessage.USER_NOT_FOUND, USER_ID));
     }
 
+    @Test
+    void testDeleteUsers_WhenGivenIds_ThenDeleteThemInOneStatement() {
+        UUID otherUserId = UUID.fromString("0b1c7a3e-5d5f-4d3a-9a8e-2f0f7d9b1c11");
+        List<UUID> ids = List.of(USER_ID, otherUserId, USER_ID);
+
+        when(userRepository.deleteUsersByIds(Set.of(USER_ID, otherUserId))).thenReturn(2);
+        when(cacheManager.getCache(CacheConfig.USERS_CACHE)).thenReturn(cache);
+
+        DeleteResponseDto result = userService.deleteUsers(ids);
+
+        verify(userValidator).validateBulkSize(ids.size());
+        assertThat(result.getDeleted()).isEqualTo(2);
+        verify(cache).evict(USER_ID);
+        verify(cache).evict(otherUserId);
+        verifyNoMoreInteractions(cache);
+    }
+
+    @Test
+    void testDeleteUsers_WhenIdsContainNull_ThenThrowIllegalArgumentException() {
+        List<UUID> ids = Arrays.asList(USER_ID, null);
+
+        doThrow(new IllegalArgumentException(ExceptionMessage.NULL_IDS)).when(userValidator).validateIds(ids);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> userService.deleteUsers(ids))
+                .withMessage(ExceptionMessage.NULL_IDS);
+
+        verifyNoInteractions(userRepository, cacheManager);
+    }
+
     @Test
     void testFindUsersByBirthDateRange_WhenValidRange_ThenReturnUsers() {
         LocalDate from = LocalDate.of(1990, 1, 1);
         LocalDate to = LocalDate.of(1995, 12, 31);
 
-        List<User> users = List.of(mock(User.class), mock(User.class), mock(User.class));
-        when(userRepository.findByBirthDateBetween(from, to)).thenReturn(users);
+        when(userProperties.getDefaultPageSize()).thenReturn(100);
 
         UserDto userDto1 = mock(UserDto.class);
         when(userDto1.getBirthDate()).thenReturn(LocalDate.of(1991, 1, 1));
@@ -175,18 +437,173 @@ public class UserServiceTest {
         when(userDto2.getBirthDate()).thenReturn(LocalDate.of(1992, 1, 1));
         UserDto userDto3 = mock(UserDto.class);
         when(userDto3.getBirthDate()).thenReturn(LocalDate.of(1993, 1, 1));
+        when(userRepository.findFirstPageByBirthDateBetween(from, to, Limit.of(101)))
+                .thenReturn(List.of(userDto1, userDto2, userDto3));
 
-        when(userMapper.toDto(users.getFirst())).thenReturn(userDto1);
-        when(userMapper.toDto(users.get(1))).thenReturn(userDto2);
-        when(userMapper.toDto(users.getLast())).thenReturn(userDto3);
-
-        MultipleResponseDto result = userService.findUsersByBirthDateRange(from, to);
+        MultipleResponseDto result = userService.findUsersByBirthDateRange(from, to, null, null);
 
         assertThat(result.getData()).extracting(UserDto::getBirthDate)
                 .containsExactlyInAnyOrder(
                         LocalDate.of(1991, 1, 1),
                         LocalDate.of(1992, 1, 1),
                         LocalDate.of(1993, 1, 1));
+        assertThat(result.getNextCursor()).isNull();
+        verifyNoInteractions(userMapper);
+    }
+
+    @Test
+    void testFindUsersByBirthDateRange_WhenMoreUsersThanPageSize_ThenReturnPageWithNextCursor() {
+        LocalDate from = LocalDate.of(1990, 1, 1);
+        LocalDate to = LocalDate.of(1995, 12, 31);
+
+        when(userProperties.getMaxPageSize()).thenReturn(1000);
+        UserDto userDto1 = new UserDto(USER_ID, "email@google.com", "John", "Doe",
+                LocalDate.of(1991, 1, 1), null, null, 0L);
+        UserDto userDto2 = mock(UserDto.class);
+        when(userRepository.findFirstPageByBirthDateBetween(from, to, Limit.of(2)))
+                .thenReturn(List.of(userDto1, userDto2));
+
+        MultipleResponseDto result = userService.findUsersByBirthDateRange(from, to, null, 1);
+
+        verify(userValidator).validatePageSize(1);
+        assertThat(result.getData()).containsExactly(userDto1);
+        assertThat(UserPageCursor.decode(result.getNextCursor()))
+                .isEqualTo(new UserPageCursor(userDto1.getBirthDate(), USER_ID));
+    }
+
+    @Test
+    void testFindUsersByBirthDateRange_WhenGivenCursor_ThenReturnNextPage() {
+        LocalDate from = LocalDate.of(1990, 1, 1);
+        LocalDate to = LocalDate.of(1995, 12, 31);
+        UserPageCursor cursor = new UserPageCursor(LocalDate.of(1991, 1, 1), USER_ID);
+
+        when(userProperties.getDefaultPageSize()).thenReturn(100);
+        UserDto userDto = mock(UserDto.class);
+        when(userRepository.findNextPageByBirthDateBetween(cursor.birthDate(), cursor.id(), to, Limit.of(101)))
+                .thenReturn(List.of(userDto));
+
+        MultipleResponseDto result = userService.findUsersByBirthDateRange(from, to, cursor.encode(), null);
+
+        assertThat(result.getData()).containsExactly(userDto);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void testFindUsersByBirthDateRange_WhenIndexIsReady_ThenLoadPageByIdsInIndexOrder() {
+        LocalDate from = LocalDate.of(1990, 1, 1);
+        LocalDate to = LocalDate.of(1995, 12, 31);
+        UserPageCursor cursor = new UserPageCursor(LocalDate.of(1990, 6, 1), USER_ID);
+        UUID firstId = UUID.fromString("5f0c7c83-3c9a-4f36-9d4e-0a8a3e1d2b44");
+        UUID secondId = UUID.fromString("9a7b2f1e-6d3c-4b8a-a1e2-3c4d5e6f7a8b");
+        UUID thirdId = UUID.fromString("e85bcd9a-00ed-45d3-87c9-ac0c8ad68204");
+        UserDto first = new UserDto(firstId, "first@google.com", "John", "Doe",
+                LocalDate.of(1991, 1, 1), null, null, 0L);
+        UserDto second = new UserDto(secondId, "second@google.com", "Jane", "Doe",
+                LocalDate.of(1992, 1, 1), null, null, 0L);
+
+        when(userProperties.getMaxPageSize()).thenReturn(1000);
+        when(userBirthDateIndex.findEntries(from, to, cursor, 3)).thenReturn(Optional.of(List.of(
+                new UserPageCursor(first.getBirthDate(), firstId),
+                new UserPageCursor(second.getBirthDate(), secondId),
+                new UserPageCursor(LocalDate.of(1993, 1, 1), thirdId))));
+        when(userRepository.findDtosByIds(List.of(firstId, secondId))).thenReturn(List.of(second, first));
+
+        MultipleResponseDto result = userService.findUsersByBirthDateRange(from, to, cursor.encode(), 2);
+
+        assertThat(result.getData()).containsExactly(first, second);
+        assertThat(UserPageCursor.decode(result.getNextCursor()))
+                .isEqualTo(new UserPageCursor(second.getBirthDate(), secondId));
+        verify(userRepository, never()).findNextPageByBirthDateBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    void testFindUsersByBirthDateRange_WhenIndexedUsersAreMissing_ThenKeepCursorOfIndexEntries() {
+        LocalDate from = LocalDate.of(1990, 1, 1);
+        LocalDate to = LocalDate.of(1995, 12, 31);
+        UUID firstId = UUID.fromString("5f0c7c83-3c9a-4f36-9d4e-0a8a3e1d2b44");
+        UUID secondId = UUID.fromString("9a7b2f1e-6d3c-4b8a-a1e2-3c4d5e6f7a8b");
+        UserPageCursor lastEntry = new UserPageCursor(LocalDate.of(1992, 1, 1), secondId);
+
+        when(userProperties.getMaxPageSize()).thenReturn(1000);
+        when(userBirthDateIndex.findEntries(from, to, null, 3)).thenReturn(Optional.of(List.of(
+                new UserPageCursor(LocalDate.of(1991, 1, 1), firstId),
+                lastEntry,
+                new UserPageCursor(LocalDate.of(1993, 1, 1), USER_ID))));
+        when(userRepository.findDtosByIds(List.of(firstId, secondId))).thenReturn(List.of());
+
+        MultipleResponseDto result = userService.findUsersByBirthDateRange(from, to, null, 2);
+
+        assertThat(result.getData()).isEmpty();
+        assertThat(UserPageCursor.decode(result.getNextCursor())).isEqualTo(lastEntry);
+    }
+
+    @Test
+    void testFindUsersByBirthDateRange_WhenGivenMalformedCursor_ThenThrowIllegalArgumentException() {
+        LocalDate from = LocalDate.of(1990, 1, 1);
+        LocalDate to = LocalDate.of(1995, 12, 31);
+
+        when(userProperties.getDefaultPageSize()).thenReturn(100);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> userService.findUsersByBirthDateRange(from, to, "not-a-cursor", null))
+                .withMessage(ExceptionMessage.INVALID_PAGE_CURSOR);
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void testSearchUsers_WhenQueryContainsLikeWildcards_ThenEscapeThemInPattern() {
+        when(userProperties.getDefaultPageSize()).thenReturn(100);
+        UserDto userDto = mock(UserDto.class);
+        when(userRepository.searchFirstPage("%50\\%\\_off%", Limit.of(101))).thenReturn(List.of(userDto));
+
+        MultipleResponseDto result = userService.searchUsers(" 50%_OFF ", null, null);
+
+        verify(userValidator).validateSearchQuery(" 50%_OFF ");
+        assertThat(result.getData()).containsExactly(userDto);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void testSearchUsers_WhenGivenCursorAndMoreMatchesThanPageSize_ThenReturnNextPageWithCursor() {
+        UUID lastId = UUID.fromString("5f0c7c83-3c9a-4f36-9d4e-0a8a3e1d2b44");
+        UserDto userDto = new UserDto(USER_ID, "email@google.com", "John", "Doe",
+                LocalDate.of(1991, 1, 1), null, null, 0L);
+
+        when(userProperties.getMaxPageSize()).thenReturn(1000);
+        when(userRepository.searchNextPage("%doe%", lastId, Limit.of(2)))
+                .thenReturn(List.of(userDto, mock(UserDto.class)));
+
+        MultipleResponseDto result = userService.searchUsers("Doe", new UserSearchCursor(lastId).encode(), 1);
+
+        assertThat(result.getData()).containsExactly(userDto);
+        assertThat(UserSearchCursor.decode(result.getNextCursor())).isEqualTo(new UserSearchCursor(USER_ID));
+    }
+
+    @Test
+    void testSearchUsers_WhenQueryIsInvalid_ThenThrowIllegalArgumentException() {
+        doThrow(new IllegalArgumentException(String.format(ExceptionMessage.INVALID_SEARCH_QUERY, 3, 100)))
+                .when(userValidator).validateSearchQuery("do");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> userService.searchUsers("do", null, null));
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void testExportUsersByBirthDateRange_WhenValidRange_ThenStreamUsersToConsumer() {
+        LocalDate from = LocalDate.of(1990, 1, 1);
+        LocalDate to = LocalDate.of(1995, 12, 31);
+
+        UserDto userDto1 = mock(UserDto.class);
+        UserDto userDto2 = mock(UserDto.class);
+        when(userRepository.streamByBirthDateBetween(from, to)).thenReturn(Stream.of(userDto1, userDto2));
+
+        List<UserDto> exported = new ArrayList<>();
+        userService.exportUsersByBirthDateRange(from, to, exported::add);
+
+        assertThat(exported).containsExactly(userDto1, userDto2);
     }
 
     @Test
@@ -198,7 +615,7 @@ public class UserServiceTest {
                 .when(userValidator).validateBirthDateRange(from, to);
 
         assertThatExceptionOfType(IllegalArgumentException.class)
-                .isThrownBy(() -> userService.findUsersByBirthDateRange(from, to))
+                .isThrownBy(() -> userService.findUsersByBirthDateRange(from, to, null, null))
                 .withMessage(ExceptionMessage.INVALID_DATE_RANGE);
     }
 
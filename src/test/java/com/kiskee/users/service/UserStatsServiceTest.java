@@ -0,0 +1,147 @@
+package com.kiskee.users.service;
+
+import com.kiskee.users.config.properties.UserStatsProperties;
+import com.kiskee.users.model.dto.StatsResponseDto;
+import com.kiskee.users.model.dto.user.stats.BirthMonthCount;
+import com.kiskee.users.model.dto.user.stats.UserCountBucket;
+import com.kiskee.users.model.dto.user.stats.UserStatsGrouping;
+import com.kiskee.users.repository.UserCountSource;
+import com.kiskee.users.repository.UserRepository;
+import com.kiskee.users.service.user.UserValidator;
+import com.kiskee.users.service.user.stats.UserStatsServiceImpl;
+import com.kiskee.users.util.ExceptionMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UserStatsServiceTest {
+
+    private UserStatsServiceImpl userStatsService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserValidator userValidator;
+
+    private final UserStatsProperties userStatsProperties = new UserStatsProperties();
+
+    private static final LocalDate FROM = LocalDate.of(1990, 1, 1);
+    private static final LocalDate TO = LocalDate.of(1995, 12, 31);
+
+    @BeforeEach
+    void setUp() {
+        userStatsProperties.setUseSummaryTable(false);
+        userStatsProperties.setDefaultAgeBucketSize(10);
+        userStatsProperties.setMaxAgeBuckets(200);
+        Clock clock = Clock.fixed(LocalDate.of(2024, 6, 15).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+        userStatsService = new UserStatsServiceImpl(userRepository, userValidator, userStatsProperties, clock);
+    }
+
+    @Test
+    void testCountUsers_WhenGroupedByYear_ThenRollMonthsUpIntoYears() {
+        when(userRepository.countByBirthMonth(FROM, TO, UserCountSource.USERS)).thenReturn(List.of(
+                new BirthMonthCount(1990, 1, 3),
+                new BirthMonthCount(1990, 7, 2),
+                new BirthMonthCount(1993, 2, 4)));
+
+        StatsResponseDto result = userStatsService.countUsers(FROM, TO, UserStatsGrouping.YEAR, null);
+
+        verify(userValidator).validateBirthDateRange(FROM, TO);
+        assertThat(result.getGroupBy()).isEqualTo(UserStatsGrouping.YEAR);
+        assertThat(result.getTotal()).isEqualTo(9);
+        assertThat(result.getBuckets()).containsExactly(
+                new UserCountBucket("1990", 5),
+                new UserCountBucket("1993", 4));
+    }
+
+    @Test
+    void testCountUsers_WhenGroupedByMonthAndSummaryTableIsEnabled_ThenReadSummaryTable() {
+        userStatsProperties.setUseSummaryTable(true);
+        when(userRepository.countByBirthMonth(FROM, TO, UserCountSource.SUMMARY)).thenReturn(List.of(
+                new BirthMonthCount(1990, 1, 3),
+                new BirthMonthCount(1990, 11, 2)));
+
+        StatsResponseDto result = userStatsService.countUsers(FROM, TO, UserStatsGrouping.MONTH, null);
+
+        assertThat(result.getTotal()).isEqualTo(5);
+        assertThat(result.getBuckets()).containsExactly(
+                new UserCountBucket("1990-01", 3),
+                new UserCountBucket("1990-11", 2));
+    }
+
+    @Test
+    void testCountUsers_WhenGroupedByAge_ThenCountBirthDateRangesOfEachAgeBucket() {
+        LocalDate from = LocalDate.of(1980, 1, 1);
+        LocalDate to = LocalDate.of(2010, 12, 31);
+        when(userRepository.countByBirthDateRanges(List.of(
+                from,
+                LocalDate.of(1984, 6, 16),
+                LocalDate.of(1994, 6, 16),
+                LocalDate.of(2004, 6, 16),
+                to.plusDays(1)), UserCountSource.USERS)).thenReturn(new long[]{1, 0, 5, 2});
+
+        StatsResponseDto result = userStatsService.countUsers(from, to, UserStatsGrouping.AGE, null);
+
+        assertThat(result.getTotal()).isEqualTo(8);
+        assertThat(result.getBuckets()).containsExactly(
+                new UserCountBucket("10-19", 2),
+                new UserCountBucket("20-29", 5),
+                new UserCountBucket("40-49", 1));
+    }
+
+    @Test
+    void testCountUsers_WhenAgeBucketSizeIsOne_ThenLabelBucketsWithSingleAge() {
+        LocalDate from = LocalDate.of(2000, 1, 1);
+        LocalDate to = LocalDate.of(2000, 12, 31);
+        when(userRepository.countByBirthDateRanges(List.of(from, LocalDate.of(2000, 6, 16), to.plusDays(1)),
+                UserCountSource.USERS)).thenReturn(new long[]{3, 4});
+
+        StatsResponseDto result = userStatsService.countUsers(from, to, UserStatsGrouping.AGE, 1);
+
+        verify(userValidator).validateAgeBucketSize(1);
+        assertThat(result.getBuckets()).containsExactly(
+                new UserCountBucket("23", 4),
+                new UserCountBucket("24", 3));
+    }
+
+    @Test
+    void testCountUsers_WhenAgeBucketSizeIsInvalid_ThenThrowIllegalArgumentException() {
+        doThrow(new IllegalArgumentException(ExceptionMessage.INVALID_AGE_BUCKET_SIZE))
+                .when(userValidator).validateAgeBucketSize(0);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> userStatsService.countUsers(FROM, TO, UserStatsGrouping.AGE, 0))
+                .withMessage(ExceptionMessage.INVALID_AGE_BUCKET_SIZE);
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void testCountUsers_WhenAgeBucketCountExceedsLimit_ThenThrowIllegalArgumentException() {
+        LocalDate from = LocalDate.of(1900, 1, 1);
+        userStatsProperties.setMaxAgeBuckets(50);
+        doThrow(new IllegalArgumentException(String.format(ExceptionMessage.TOO_MANY_AGE_BUCKETS, 50)))
+                .when(userValidator).validateAgeBucketCount(97, 50);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> userStatsService.countUsers(from, TO, UserStatsGrouping.AGE, 1))
+                .withMessage(String.format(ExceptionMessage.TOO_MANY_AGE_BUCKETS, 50));
+
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -5,26 +5,44 @@ import com.kiskee.users.exception.RegistrationRestrictionException;
 import com.kiskee.users.model.dto.user.UserCreateRequest;
 import com.kiskee.users.service.user.UserValidator;
 import com.kiskee.users.util.ExceptionMessage;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class UserValidatorTest {
 
-    @InjectMocks
     private UserValidator userValidator;
     @Mock
     private UserProperties userProperties;
 
+    private static final ZoneId ZONE = ZoneId.of("Europe/Kyiv");
+
+    private final MutableClock clock = new MutableClock(LocalDateTime.of(2026, 6, 15, 12, 0), ZONE);
+
+    @BeforeEach
+    public void setup() {
+        userValidator = new UserValidator(userProperties, clock);
+    }
+
     @Test
     void testValidateRegistrationRequest_WhenGivenAllowedAge_ThenGoodPass() {
         UserCreateRequest createRequest = mock(UserCreateRequest.class);
@@ -47,6 +65,63 @@ public class UserValidatorTest {
                         .withMessage(ExceptionMessage.USER_REGISTRATION_RESTRICTION);
     }
 
+    @Test
+    void testIsRegistrationAllowed_WhenBirthdayIsToday_ThenAllow() {
+        when(userProperties.getMinimumAgeConstraint()).thenReturn(18);
+
+        assertThat(userValidator.isRegistrationAllowed(requestBornOn(LocalDate.of(2008, 6, 15)))).isTrue();
+    }
+
+    @Test
+    void testIsRegistrationAllowed_WhenBirthdayIsTomorrow_ThenReject() {
+        when(userProperties.getMinimumAgeConstraint()).thenReturn(18);
+
+        assertThat(userValidator.isRegistrationAllowed(requestBornOn(LocalDate.of(2008, 6, 16)))).isFalse();
+    }
+
+    @Test
+    void testIsRegistrationAllowed_WhenBornLateInCutoffYear_ThenRejectDespiteYearDifference() {
+        when(userProperties.getMinimumAgeConstraint()).thenReturn(18);
+
+        assertThat(userValidator.isRegistrationAllowed(requestBornOn(LocalDate.of(2008, 12, 31)))).isFalse();
+    }
+
+    @Test
+    void testIsRegistrationAllowed_WhenBornOnLeapDay_ThenAllowFromMarchFirstInCommonYear() {
+        when(userProperties.getMinimumAgeConstraint()).thenReturn(18);
+        UserCreateRequest leapDayRequest = requestBornOn(LocalDate.of(2008, 2, 29));
+
+        clock.set(LocalDateTime.of(2026, 2, 28, 23, 59));
+        assertThat(userValidator.isRegistrationAllowed(leapDayRequest)).isFalse();
+
+        clock.set(LocalDateTime.of(2026, 3, 1, 0, 0));
+        assertThat(userValidator.isRegistrationAllowed(leapDayRequest)).isTrue();
+    }
+
+    @Test
+    void testIsRegistrationAllowed_WhenMidnightPasses_ThenRefreshCutoff() {
+        when(userProperties.getMinimumAgeConstraint()).thenReturn(18);
+        UserCreateRequest createRequest = requestBornOn(LocalDate.of(2008, 6, 16));
+
+        clock.set(LocalDateTime.of(2026, 6, 15, 23, 59, 59));
+        assertThat(userValidator.isRegistrationAllowed(createRequest)).isFalse();
+
+        clock.set(LocalDateTime.of(2026, 6, 16, 0, 0));
+        assertThat(userValidator.isRegistrationAllowed(createRequest)).isTrue();
+    }
+
+    @Test
+    void testIsRegistrationAllowed_WhenCalledRepeatedlyWithinDay_ThenComputeCutoffOnce() {
+        when(userProperties.getMinimumAgeConstraint()).thenReturn(18);
+        UserCreateRequest createRequest = requestBornOn(LocalDate.of(1990, 2, 13));
+
+        userValidator.isRegistrationAllowed(createRequest);
+        clock.set(LocalDateTime.of(2026, 6, 15, 23, 0));
+        userValidator.isRegistrationAllowed(createRequest);
+
+        verify(userProperties, times(1)).getMinimumAgeConstraint();
+    }
+
     @Test
     void testValidateBirthDateRange_WhenGivenValidRange_ThanGoodPass() {
         LocalDate from = LocalDate.of(1990, 1, 1);
@@ -64,4 +139,128 @@ public class UserValidatorTest {
                 .isThrownBy(() -> userValidator.validateBirthDateRange(from, to))
                 .withMessage(ExceptionMessage.INVALID_DATE_RANGE);
     }
+
+    @Test
+    void testValidatePageSize_WhenGivenPositiveSize_ThenGoodPass() {
+        userValidator.validatePageSize(1);
+    }
+
+    @Test
+    void testValidatePageSize_WhenGivenNonPositiveSize_ThenThrowIllegalArgumentException() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> userValidator.validatePageSize(0))
+                .withMessage(ExceptionMessage.INVALID_PAGE_SIZE);
+    }
+
+    @Test
+    void testValidateBulkSize_WhenGivenAllowedSize_ThenGoodPass() {
+        when(userProperties.getMaxBulkSize()).thenReturn(1000);
+
+        userValidator.validateBulkSize(1000);
+    }
+
+    @Test
+    void testValidateBulkSize_WhenGivenTooLargeSize_ThenThrowIllegalArgumentException() {
+        when(userProperties.getMaxBulkSize()).thenReturn(1000);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> userValidator.validateBulkSize(1001))
+                .withMessage(String.format(ExceptionMessage.INVALID_BULK_SIZE, 1000));
+    }
+
+    @Test
+    void testValidateMultiGetSize_WhenGivenAllowedSize_ThenGoodPass() {
+        when(userProperties.getMaxMultiGetSize()).thenReturn(1000);
+
+        userValidator.validateMultiGetSize(1000);
+    }
+
+    @Test
+    void testValidateMultiGetSize_WhenGivenEmptyIds_ThenThrowIllegalArgumentException() {
+        when(userProperties.getMaxMultiGetSize()).thenReturn(1000);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> userValidator.validateMultiGetSize(0))
+                .withMessage(String.format(ExceptionMessage.INVALID_MULTI_GET_SIZE, 1000));
+    }
+
+    @Test
+    void testValidateIds_WhenIdsContainNull_ThenThrowIllegalArgumentException() {
+        List<UUID> ids = Arrays.asList(UUID.randomUUID(), null);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> userValidator.validateIds(ids))
+                .withMessage(ExceptionMessage.NULL_IDS);
+    }
+
+    @Test
+    void testValidateSearchQuery_WhenGivenAllowedLength_ThenGoodPass() {
+        when(userProperties.getMinSearchLength()).thenReturn(3);
+        when(userProperties.getMaxSearchLength()).thenReturn(100);
+
+        userValidator.validateSearchQuery(" doe ");
+    }
+
+    @Test
+    void testValidateSearchQuery_WhenGivenTooShortQuery_ThenThrowIllegalArgumentException() {
+        when(userProperties.getMinSearchLength()).thenReturn(3);
+        when(userProperties.getMaxSearchLength()).thenReturn(100);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> userValidator.validateSearchQuery(" do  "))
+                .withMessage(String.format(ExceptionMessage.INVALID_SEARCH_QUERY, 3, 100));
+    }
+
+    @Test
+    void testValidateAgeBucketSize_WhenGivenNonPositiveSize_ThenThrowIllegalArgumentException() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> userValidator.validateAgeBucketSize(0))
+                .withMessage(ExceptionMessage.INVALID_AGE_BUCKET_SIZE);
+    }
+
+    @Test
+    void testValidateAgeBucketCount_WhenCountExceedsLimit_ThenThrowIllegalArgumentException() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> userValidator.validateAgeBucketCount(201, 200))
+                .withMessage(String.format(ExceptionMessage.TOO_MANY_AGE_BUCKETS, 200));
+    }
+
+    @Test
+    void testValidateAgeBucketCount_WhenCountIsAtLimit_ThenPassValidation() {
+        userValidator.validateAgeBucketCount(200, 200);
+    }
+
+    private UserCreateRequest requestBornOn(LocalDate birthDate) {
+        return new UserCreateRequest("email@google.com", "John", "Doe", birthDate, null, null);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private final ZoneId zone;
+        private Instant instant;
+
+        MutableClock(LocalDateTime dateTime, ZoneId zone) {
+            this.zone = zone;
+            set(dateTime);
+        }
+
+        void set(LocalDateTime dateTime) {
+            this.instant = dateTime.atZone(zone).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
 }
@@ -0,0 +1,161 @@
+package com.kiskee.users.validator;
+
+import com.kiskee.users.model.dto.user.UserCreateRequest;
+import com.kiskee.users.model.dto.user.UserPartialUpdateRequestDto;
+import com.kiskee.users.model.dto.user.UserUpdateRequestDto;
+import com.kiskee.users.web.validator.UserRequestValidator;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.WebDataBinder;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserRequestValidatorTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator beanValidator;
+
+    private final UserRequestValidator userRequestValidator = new UserRequestValidator(Clock.systemDefaultZone(),
+            validatorFactory.getValidator());
+
+    @BeforeAll
+    public static void setupBeanValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = new SpringValidatorAdapter(validatorFactory.getValidator());
+    }
+
+    @AfterAll
+    public static void closeBeanValidator() {
+        validatorFactory.close();
+    }
+
+    @ParameterizedTest
+    @MethodSource("emails")
+    void testValidate_WhenGivenEmail_ThenMatchBeanValidation(String email) {
+        assertSameErrors(new UserPartialUpdateRequestDto(email, null, null, null, null, null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("phoneNumbers")
+    void testValidate_WhenGivenPhoneNumber_ThenMatchBeanValidation(String phoneNumber) {
+        assertSameErrors(new UserPartialUpdateRequestDto(null, null, null, null, null, phoneNumber));
+    }
+
+    @ParameterizedTest
+    @MethodSource("requests")
+    void testValidate_WhenGivenRequest_ThenMatchBeanValidation(Object request) {
+        assertSameErrors(request);
+    }
+
+    @Test
+    void testValidate_WhenGivenListOfRequests_ThenPrefixFieldsWithIndex() {
+        List<UserCreateRequest> requests = List.of(
+                new UserCreateRequest("email@google.com", "John", "Doe", LocalDate.of(1990, 2, 13), null, null),
+                new UserCreateRequest("invalid", " ", "Doe", LocalDate.of(1990, 2, 13), null, "12345"));
+
+        WebDataBinder binder = new WebDataBinder(requests, "request");
+        userRequestValidator.applyTo(binder);
+        binder.validate();
+
+        assertThat(errorsOf(binder.getBindingResult())).containsOnly(
+                Map.entry("[1].email", "must be a well-formed email address"),
+                Map.entry("[1].firstName", "must not be blank"),
+                Map.entry("[1].phoneNumber", "Invalid phone number format. Only numbers and '+' are allowed"));
+    }
+
+    @Test
+    void testApplyTo_WhenListHoldsOtherElements_ThenKeepDefaultValidators() {
+        WebDataBinder binder = new WebDataBinder(List.of("email@google.com"), "request");
+        binder.setValidator(beanValidator);
+
+        userRequestValidator.applyTo(binder);
+
+        assertThat(binder.getValidators()).containsExactly(beanValidator);
+    }
+
+    @Test
+    void testValidate_WhenBirthDateIsTodayOfClock_ThenRejectItAsNotPast() {
+        LocalDate today = LocalDate.of(2024, 6, 15);
+        Clock clock = Clock.fixed(today.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        UserRequestValidator validator = new UserRequestValidator(clock, validatorFactory.getValidator());
+
+        assertThat(errorsOf(validator, new UserPartialUpdateRequestDto(null, null, null, today, null, null)))
+                .containsOnly(Map.entry("birthDate", "must be a past date"));
+        assertThat(errorsOf(validator, new UserPartialUpdateRequestDto(null, null, null, today.minusDays(1), null,
+                null))).isEmpty();
+    }
+
+    private void assertSameErrors(Object request) {
+        assertThat(errorsOf(userRequestValidator, request)).isEqualTo(errorsOf(beanValidator, request));
+    }
+
+    private static Map<String, String> errorsOf(Validator validator, Object target) {
+        Errors errors = new BeanPropertyBindingResult(target, "request");
+        validator.validate(target, errors);
+
+        return errorsOf(errors);
+    }
+
+    private static Map<String, String> errorsOf(Errors errors) {
+        return errors.getFieldErrors().stream()
+                .collect(Collectors.toMap(FieldError::getField, FieldError::getDefaultMessage));
+    }
+
+    static Stream<String> emails() {
+        return Stream.of("email@google.com", "John.Doe+tag@Sub.Example.co.uk", "user@localhost", "", "plain",
+                "@google.com", "email@", ".email@google.com", "email.@google.com", "em..ail@google.com",
+                "email@google..com", "email@google.com.", "email@-google.com", "email@google-.com",
+                "email@goo--gle.com", "email@goo_gle.com", "em ail@google.com", "email@goo gle.com",
+                "a@b@google.com", "\"quoted local\"@google.com", "email@[127.0.0.1]", "email@[IPv6:::1]",
+                "üser@google.com", "email@bücher.de", "!#$%&'*+/=?^_`{|}~-@google.com",
+                "a".repeat(64) + "@google.com", "a".repeat(65) + "@google.com",
+                "email@" + "a".repeat(63) + ".com", "email@" + "a".repeat(64) + ".com",
+                "email@" + ("a".repeat(60) + ".").repeat(5) + "com", "\"a.b\"@google.com", "\"a\\\"b\"@google.com",
+                "\"a\\b\"@google.com", "\"a\\\\b\"@google.com", "\"\"@google.com", "\"a\".b@google.com",
+                "\"a\"b@google.com", "\"a\tb\"@google.com", "\"a@b\"@google.com", "\"ü\"@google.com", "email@[999.1.1.1]",
+                "email@[1.2.3]", "email@[IPv6:1:2:3:4:5:6:7:8]", "email@[IPv6:1:2:3:4:5:6:7:8:9]",
+                "email@[IPv6:1::2::3]", "email@[IPv6:1::]", "email@[ipv6:::ffff:1.2.3.4]",
+                "email@[IPv6:::ffff:256.2.3.4]", "email@[IPv6:::ffff:0:010.2.3.4]", "email@[IPv6:64:ff9b::1.2.3.4]",
+                "email@[IPv6:1:2:3:4:5::1.2.3.4]", "email@[IPv6:FE80::1%en0]", "email@[IPv6:fe80::1%]",
+                "email@[IPv6:g::1]", "日本@例え.jp", "email@" + "ü".repeat(64) + ".de", "email@-bücher.de",
+                "email@bücher.de.");
+    }
+
+    static Stream<String> phoneNumbers() {
+        return Stream.of("380999999999", "+380999999999", "1234567890", "123456789", "123456789012345",
+                "1234567890123456", "+", "", "++380999999999", "380-99-999-99-99", "38099999999a",
+                "３８０９９９９９９９９９", "380999999999\n");
+    }
+
+    static Stream<Object> requests() {
+        LocalDate birthDate = LocalDate.of(1990, 2, 13);
+        return Stream.of(
+                new UserCreateRequest("email@google.com", "John", "Doe", birthDate, "some address", "380999999999"),
+                new UserCreateRequest(null, null, null, null, null, null),
+                new UserCreateRequest("invalid", "", "\t", LocalDate.now(), null, "123"),
+                new UserCreateRequest("email@google.com", "\u0001", " ", LocalDate.now().plusDays(1), null, null),
+                new UserUpdateRequestDto("email@google.com", "John", "Doe", birthDate, "some address", "380999999999"),
+                new UserUpdateRequestDto(null, null, null, null, null, null),
+                new UserUpdateRequestDto("", " ", "Doe", LocalDate.now().minusDays(1), "", ""),
+                new UserPartialUpdateRequestDto(null, null, null, null, null, null),
+                new UserPartialUpdateRequestDto("", "", "", LocalDate.now(), "", ""));
+    }
+}